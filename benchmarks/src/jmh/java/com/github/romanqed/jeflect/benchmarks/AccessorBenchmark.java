@@ -0,0 +1,131 @@
+package com.github.romanqed.jeflect.benchmarks;
+
+import com.github.romanqed.jeflect.field.BytecodeAccessorFactory;
+import com.github.romanqed.jeflect.field.FieldAccessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state cost of reading and writing fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+    private static final MethodHandle INT_GETTER;
+    private static final MethodHandle INT_SETTER;
+    private static final MethodHandle REF_GETTER;
+
+    static {
+        var lookup = MethodHandles.publicLookup();
+        try {
+            INT_GETTER = lookup.findGetter(Target.class, "intField", int.class);
+            INT_SETTER = lookup.findSetter(Target.class, "intField", int.class);
+            REF_GETTER = lookup.findGetter(Target.class, "refField", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Target target;
+    private int intValue;
+    private Object boxedValue;
+    private Field intField;
+    private Field refField;
+    private Field staticField;
+    private FieldAccessor intAccessor;
+    private FieldAccessor refAccessor;
+    private FieldAccessor staticAccessor;
+
+    @Setup
+    public void setup() throws Exception {
+        target = new Target();
+        target.refField = new Object();
+        intValue = 42;
+        boxedValue = intValue;
+        intField = Target.class.getField("intField");
+        refField = Target.class.getField("refField");
+        staticField = Target.class.getField("staticField");
+        var factory = new BytecodeAccessorFactory();
+        intAccessor = factory.packField(intField);
+        refAccessor = factory.packField(refField);
+        staticAccessor = factory.packField(staticField);
+    }
+
+    @Benchmark
+    public int directGetPrimitive() {
+        return target.intField;
+    }
+
+    @Benchmark
+    public Object directGetReference() {
+        return target.refField;
+    }
+
+    @Benchmark
+    public void directSetPrimitive() {
+        target.intField = intValue;
+    }
+
+    @Benchmark
+    public Object accessorGetPrimitive() {
+        return intAccessor.get(target);
+    }
+
+    @Benchmark
+    public Object accessorGetReference() {
+        return refAccessor.get(target);
+    }
+
+    @Benchmark
+    public Object accessorGetStatic() {
+        return staticAccessor.get();
+    }
+
+    @Benchmark
+    public void accessorSetPrimitive() {
+        intAccessor.set(target, boxedValue);
+    }
+
+    @Benchmark
+    public Object reflectionGetPrimitive() throws Exception {
+        return intField.get(target);
+    }
+
+    @Benchmark
+    public Object reflectionGetReference() throws Exception {
+        return refField.get(target);
+    }
+
+    @Benchmark
+    public Object reflectionGetStatic() throws Exception {
+        return staticField.get(null);
+    }
+
+    @Benchmark
+    public void reflectionSetPrimitive() throws Exception {
+        intField.set(target, boxedValue);
+    }
+
+    @Benchmark
+    public int handleGetPrimitive() throws Throwable {
+        return (int) INT_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public Object handleGetReference() throws Throwable {
+        return (Object) REF_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public void handleSetPrimitive() throws Throwable {
+        INT_SETTER.invokeExact(target, intValue);
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.romanqed.jeflect.benchmarks;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Time to define a batch of distinct classes per thread in a shared {@link DefineClassLoader}
+ * from 1, 2, 4, 8 and all available threads, showing how defining scales with contention.
+ * <p>
+ * Class names and bytecode are generated before each iteration, so only {@link DefineClassLoader#define}
+ * is measured. Each iteration performs exactly {@link #BATCH} definitions per thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = DefineBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = DefineBenchmark.BATCH)
+@Fork(1)
+public class DefineBenchmark {
+    static final int BATCH = 10_000;
+    private static final String PREFIX = "com/github/romanqed/jeflect/benchmarks/Defined";
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private DefineClassLoader loader;
+
+    private static byte[] generate(String name) {
+        var writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        writer.visit(Opcodes.V11, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, name, null, "java/lang/Object", null);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        // Fresh loader for each iteration, so defined classes can be collected and names reused
+        loader = new DefineClassLoader();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Class<?> defineSingle(Classes classes) {
+        return classes.define(loader);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Class<?> defineTwo(Classes classes) {
+        return classes.define(loader);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Class<?> defineFour(Classes classes) {
+        return classes.define(loader);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Class<?> defineEight(Classes classes) {
+        return classes.define(loader);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Class<?> defineParallel(Classes classes) {
+        return classes.define(loader);
+    }
+
+    @State(Scope.Thread)
+    public static class Classes {
+        // Thread-local prefix, so threads never define the same class
+        private final String prefix = PREFIX + THREADS.incrementAndGet() + '_';
+        private final String[] names = new String[BATCH];
+        private final byte[][] buffers = new byte[BATCH][];
+        private int index;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            for (var i = 0; i < BATCH; ++i) {
+                var name = prefix + i;
+                names[i] = name.replace('/', '.');
+                buffers[i] = generate(name);
+            }
+            index = 0;
+        }
+
+        private Class<?> define(DefineClassLoader loader) {
+            var i = index++;
+            return loader.define(names[i], buffers[i]);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.romanqed.jeflect.benchmarks;
+
+import com.github.romanqed.jeflect.lambda.BytecodeLambdaFactory;
+import com.github.romanqed.jeflect.lambda.IntLambda;
+import com.github.romanqed.jeflect.lambda.Lambda;
+import com.github.romanqed.jeflect.meta.LambdaType;
+import com.github.romanqed.jeflect.meta.LookupMetaFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state cost of invoking a method through a monomorphic call site.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvokeBenchmark {
+    private static final MethodHandle ADD;
+    private static final MethodHandle IDENTITY;
+
+    static {
+        var lookup = MethodHandles.publicLookup();
+        try {
+            ADD = lookup.findVirtual(Target.class, "add", MethodType.methodType(int.class, int.class, int.class));
+            IDENTITY = lookup.findVirtual(Target.class, "identity", MethodType.methodType(Object.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Target target;
+    private int a;
+    private int b;
+    private Object value;
+    private Object[] intArgs;
+    private Object[] refArgs;
+    private Method addMethod;
+    private Method identityMethod;
+    private Lambda addLambda;
+    private IntLambda addIntLambda;
+    private Lambda identityLambda;
+    private Target.IntOperator addMeta;
+    private Target.RefOperator identityMeta;
+
+    @Setup
+    public void setup() throws Exception {
+        target = new Target();
+        a = 1;
+        b = 2;
+        value = new Object();
+        intArgs = new Object[]{a, b};
+        refArgs = new Object[]{value};
+        addMethod = Target.class.getMethod("add", int.class, int.class);
+        identityMethod = Target.class.getMethod("identity", Object.class);
+        var factory = new BytecodeLambdaFactory();
+        addLambda = factory.packMethod(addMethod);
+        addIntLambda = (IntLambda) addLambda;
+        identityLambda = factory.packMethod(identityMethod);
+        var meta = new LookupMetaFactory(MethodHandles.lookup());
+        addMeta = meta.packLambdaMethod(LambdaType.of(Target.IntOperator.class), addMethod);
+        identityMeta = meta.packLambdaMethod(LambdaType.of(Target.RefOperator.class), identityMethod);
+    }
+
+    @Benchmark
+    public int directPrimitive() {
+        return target.add(a, b);
+    }
+
+    @Benchmark
+    public Object directReference() {
+        return target.identity(value);
+    }
+
+    @Benchmark
+    public Object lambdaPrimitiveArray() throws Throwable {
+        return addLambda.invoke(target, intArgs);
+    }
+
+    @Benchmark
+    public Object lambdaPrimitiveArity() throws Throwable {
+        return addLambda.invoke2(target, a, b);
+    }
+
+    @Benchmark
+    public int lambdaPrimitiveSpecialized() throws Throwable {
+        return addIntLambda.invokeInt(target, a, b);
+    }
+
+    @Benchmark
+    public Object lambdaReferenceArray() throws Throwable {
+        return identityLambda.invoke(target, refArgs);
+    }
+
+    @Benchmark
+    public Object lambdaReferenceArity() throws Throwable {
+        return identityLambda.invoke1(target, value);
+    }
+
+    @Benchmark
+    public int metaPrimitive() {
+        return addMeta.apply(target, a, b);
+    }
+
+    @Benchmark
+    public Object metaReference() {
+        return identityMeta.apply(target, value);
+    }
+
+    @Benchmark
+    public Object reflectionPrimitive() throws Exception {
+        return addMethod.invoke(target, intArgs);
+    }
+
+    @Benchmark
+    public Object reflectionReference() throws Exception {
+        return identityMethod.invoke(target, refArgs);
+    }
+
+    @Benchmark
+    public int handlePrimitive() throws Throwable {
+        return (int) ADD.invokeExact(target, a, b);
+    }
+
+    @Benchmark
+    public Object handleReference() throws Throwable {
+        return (Object) IDENTITY.invokeExact(target, value);
+    }
+}
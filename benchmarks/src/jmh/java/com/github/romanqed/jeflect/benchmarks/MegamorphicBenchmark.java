@@ -0,0 +1,100 @@
+package com.github.romanqed.jeflect.benchmarks;
+
+import com.github.romanqed.jeflect.lambda.BytecodeLambdaFactory;
+import com.github.romanqed.jeflect.lambda.IntLambda;
+import com.github.romanqed.jeflect.lambda.Lambda;
+import com.github.romanqed.jeflect.meta.LambdaType;
+import com.github.romanqed.jeflect.meta.LookupMetaFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of invoking several different methods through the same call site,
+ * so that the JIT cannot inline a single receiver type.
+ * <p>
+ * Scores are reported per call of all {@link #NAMES} methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MegamorphicBenchmark {
+    private static final String[] NAMES = {"add", "sub", "mul", "xor"};
+
+    private Target target;
+    private int a;
+    private int b;
+    private Object[] args;
+    private Method[] methods;
+    private Lambda[] lambdas;
+    private IntLambda[] intLambdas;
+    private Target.IntOperator[] metas;
+    private MethodHandle[] handles;
+
+    @Setup
+    public void setup() throws Exception {
+        target = new Target();
+        a = 1;
+        b = 2;
+        args = new Object[]{a, b};
+        var count = NAMES.length;
+        methods = new Method[count];
+        lambdas = new Lambda[count];
+        intLambdas = new IntLambda[count];
+        metas = new Target.IntOperator[count];
+        handles = new MethodHandle[count];
+        var factory = new BytecodeLambdaFactory();
+        var meta = new LookupMetaFactory(MethodHandles.lookup());
+        var type = LambdaType.of(Target.IntOperator.class);
+        for (var i = 0; i < count; ++i) {
+            var method = Target.class.getMethod(NAMES[i], int.class, int.class);
+            methods[i] = method;
+            lambdas[i] = factory.packMethod(method);
+            intLambdas[i] = (IntLambda) lambdas[i];
+            metas[i] = meta.packLambdaMethod(type, method);
+            handles[i] = MethodHandles.publicLookup().unreflect(method);
+        }
+    }
+
+    @Benchmark
+    public void lambdaArray(Blackhole blackhole) throws Throwable {
+        for (var lambda : lambdas) {
+            blackhole.consume(lambda.invoke(target, args));
+        }
+    }
+
+    @Benchmark
+    public void lambdaSpecialized(Blackhole blackhole) throws Throwable {
+        for (var lambda : intLambdas) {
+            blackhole.consume(lambda.invokeInt(target, a, b));
+        }
+    }
+
+    @Benchmark
+    public void meta(Blackhole blackhole) {
+        for (var lambda : metas) {
+            blackhole.consume(lambda.apply(target, a, b));
+        }
+    }
+
+    @Benchmark
+    public void reflection(Blackhole blackhole) throws Exception {
+        for (var method : methods) {
+            blackhole.consume(method.invoke(target, args));
+        }
+    }
+
+    @Benchmark
+    public void handle(Blackhole blackhole) throws Throwable {
+        for (var handle : handles) {
+            blackhole.consume((int) handle.invokeExact(target, a, b));
+        }
+    }
+}
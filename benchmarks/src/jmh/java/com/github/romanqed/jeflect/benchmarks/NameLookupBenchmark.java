@@ -0,0 +1,62 @@
+package com.github.romanqed.jeflect.benchmarks;
+
+import com.github.romanqed.jeflect.field.BytecodeNameIndexFactory;
+import com.github.romanqed.jeflect.field.NameIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving field names to slots, as done by binders for every parsed key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameLookupBenchmark {
+    @Param({"4", "16", "64"})
+    private int size;
+    private String[] keys;
+    private Map<String, Integer> map;
+    private NameIndex index;
+    private int position;
+
+    @Setup
+    public void setup() {
+        var names = new ArrayList<String>(size);
+        map = new HashMap<>();
+        for (var i = 0; i < size; ++i) {
+            var name = "field" + i;
+            names.add(name);
+            map.put(name, i);
+        }
+        index = new BytecodeNameIndexFactory().packNames(List.copyOf(names));
+        // Keys are distinct instances, as produced by a parser
+        keys = new String[size];
+        for (var i = 0; i < size; ++i) {
+            keys[i] = new String(names.get(i).toCharArray());
+        }
+    }
+
+    private String nextKey() {
+        var ret = keys[position];
+        position = (position + 1) % keys.length;
+        return ret;
+    }
+
+    @Benchmark
+    public int hashMap() {
+        return map.get(nextKey());
+    }
+
+    @Benchmark
+    public int nameIndex() {
+        return index.indexOf(nextKey());
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.romanqed.jeflect.benchmarks;
+
+import com.github.romanqed.jeflect.field.BytecodeAccessorFactory;
+import com.github.romanqed.jeflect.field.FieldAccessor;
+import com.github.romanqed.jeflect.lambda.BytecodeLambdaFactory;
+import com.github.romanqed.jeflect.lambda.Lambda;
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineObjectFactory;
+import com.github.romanqed.jeflect.meta.LambdaType;
+import com.github.romanqed.jeflect.meta.LookupMetaFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One-time cost of packing a member, including bytecode generation and class definition.
+ * <p>
+ * Every invocation uses fresh factories, so no previously generated class can be reused.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackingBenchmark {
+    private Method method;
+    private Field field;
+    private BytecodeLambdaFactory lambdaFactory;
+    private BytecodeAccessorFactory accessorFactory;
+    private LookupMetaFactory metaFactory;
+    private LambdaType<Target.IntOperator> type;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws Exception {
+        method = Target.class.getMethod("add", int.class, int.class);
+        field = Target.class.getField("intField");
+        metaFactory = new LookupMetaFactory(MethodHandles.lookup());
+        type = LambdaType.of(Target.IntOperator.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        lambdaFactory = new BytecodeLambdaFactory(new DefineObjectFactory<>(new DefineClassLoader()));
+        accessorFactory = new BytecodeAccessorFactory(new DefineObjectFactory<>(new DefineClassLoader()));
+    }
+
+    @Benchmark
+    public Lambda packLambda() {
+        return lambdaFactory.packMethod(method);
+    }
+
+    @Benchmark
+    public FieldAccessor packAccessor() {
+        return accessorFactory.packField(field);
+    }
+
+    @Benchmark
+    public Target.IntOperator packMeta() {
+        return metaFactory.packLambdaMethod(type, method);
+    }
+
+    @Benchmark
+    public MethodHandle unreflect() throws Exception {
+        return MethodHandles.publicLookup().unreflect(method);
+    }
+}
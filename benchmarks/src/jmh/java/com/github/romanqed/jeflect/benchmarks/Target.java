@@ -0,0 +1,44 @@
+package com.github.romanqed.jeflect.benchmarks;
+
+/**
+ * The class whose members are packed and invoked by benchmarks.
+ */
+public class Target {
+    public static int staticField;
+    public int intField;
+    public Object refField;
+
+    public int add(int a, int b) {
+        return a + b;
+    }
+
+    public int sub(int a, int b) {
+        return a - b;
+    }
+
+    public int mul(int a, int b) {
+        return a * b;
+    }
+
+    public int xor(int a, int b) {
+        return a ^ b;
+    }
+
+    public Object identity(Object value) {
+        return value;
+    }
+
+    /**
+     * The lambda interface for {@link #add(int, int)} and its neighbours packed by the meta factory.
+     */
+    public interface IntOperator {
+        int apply(Target target, int a, int b);
+    }
+
+    /**
+     * The lambda interface for {@link #identity(Object)} packed by the meta factory.
+     */
+    public interface RefOperator {
+        Object apply(Target target, Object value);
+    }
+}
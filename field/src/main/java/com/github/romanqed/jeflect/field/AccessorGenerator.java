@@ -0,0 +1,78 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jeflect.loader.CachedClassLoader;
+import com.github.romanqed.jeflect.loader.ClassScanner;
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineObjectFactory;
+import com.github.romanqed.jeflect.loader.DirectoryClassCache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>A command-line entry point generating field accessors at build time.</p>
+ * <p>Usage: {@code AccessorGenerator <output directory> <target>...}, where a target is a class name,
+ * a package with its subpackages ({@code com.example.*}) or the whole class path ({@code *}).
+ * Accessors are generated for all public fields declared by the public target classes,
+ * and written in a class directory layout. Packed into the application jar or added to the classpath,
+ * they are found by {@link BytecodeAccessorFactory} instead of being generated at runtime.</p>
+ */
+public final class AccessorGenerator {
+    private static final String USAGE = "Usage: AccessorGenerator <output directory> <target>...";
+
+    private AccessorGenerator() {
+    }
+
+    private static boolean isAccessible(Class<?> clazz) {
+        for (var current = clazz; current != null; current = current.getDeclaringClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return !clazz.isSynthetic() && !clazz.isAnonymousClass() && !clazz.isLocalClass();
+    }
+
+    /**
+     * Generates accessors for all public fields declared by the specified classes.
+     * Non-public classes are skipped.
+     *
+     * @param output  the root of the class directory
+     * @param classes the target classes
+     * @return the number of packed fields
+     */
+    public static int generate(Path output, List<Class<?>> classes) {
+        var loader = new CachedClassLoader(new DefineClassLoader(), new DirectoryClassCache(output));
+        var factory = new BytecodeAccessorFactory(new DefineObjectFactory<>(loader));
+        var ret = 0;
+        for (var clazz : classes) {
+            if (!isAccessible(clazz)) {
+                continue;
+            }
+            var fields = new ArrayList<Field>();
+            for (var field : clazz.getDeclaredFields()) {
+                if (Modifier.isPublic(field.getModifiers()) && !field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+            ret += factory.packFields(fields).size();
+        }
+        return ret;
+    }
+
+    public static void main(String[] args) throws ClassNotFoundException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(USAGE);
+        }
+        var names = new ClassScanner().resolve(List.of(args).subList(1, args.length));
+        var loader = ClassLoader.getSystemClassLoader();
+        var classes = new ArrayList<Class<?>>(names.size());
+        for (var name : names) {
+            classes.add(Class.forName(name, false, loader));
+        }
+        var count = generate(Path.of(args[0]), classes);
+        System.out.println("Packed " + count + " fields of " + classes.size() + " classes into " + args[0]);
+    }
+}
@@ -0,0 +1,246 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>A class representing a universal interface for accessing elements of arrays of one type.</p>
+ * <p>Calling non-implemented will throw {@link UnsupportedOperationException}.</p>
+ * <p>Primitive elements can be accessed without packing with typed methods, such as
+ * {@link ArrayAccessor#getInt(Object, int)} or {@link ArrayAccessor#setLong(Object, int, long)}.
+ * They follow the widening rules of {@link java.lang.reflect.Array}: for example, elements of {@code int[]}
+ * can be read with {@code getLong} and assigned with {@code setShort}.</p>
+ * <p>Arrays of all reference types share the same accessor, so storing a value of an incompatible type
+ * throws {@link ArrayStoreException}.</p>
+ */
+public interface ArrayAccessor {
+
+    /**
+     * Returns the length of the array.
+     *
+     * @param array the target array
+     * @return array length
+     */
+    int length(Object array);
+
+    /**
+     * Gets the element of the array. The primitives will be packed.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @return element value
+     * @throws ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    Object get(Object array, int index);
+
+    /**
+     * Sets the element of the array. The primitives will be unpacked.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @param value the value to be assigned
+     * @throws ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    void set(Object array, int index, Object value);
+
+    /**
+     * Copies the range of elements into the target array of the same type.
+     *
+     * @param array  the source array
+     * @param from   the source index, inclusive
+     * @param to     the source index, exclusive
+     * @param target the target array
+     * @param offset the index in the target array at which the first element is written
+     * @throws IndexOutOfBoundsException if any range is out of bounds
+     */
+    void copyRange(Object array, int from, int to, Object target, int offset);
+
+    /**
+     * Gets the element of the array as {@code boolean}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @return element value
+     * @throws UnsupportedOperationException if the element cannot be converted to {@code boolean}
+     */
+    default boolean getBoolean(Object array, int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the element of the array from {@code boolean}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if {@code boolean} cannot be converted to the element type
+     */
+    default void setBoolean(Object array, int index, boolean value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the element of the array as {@code byte}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @return element value
+     * @throws UnsupportedOperationException if the element cannot be converted to {@code byte}
+     */
+    default byte getByte(Object array, int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the element of the array from {@code byte}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if {@code byte} cannot be converted to the element type
+     */
+    default void setByte(Object array, int index, byte value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the element of the array as {@code char}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @return element value
+     * @throws UnsupportedOperationException if the element cannot be converted to {@code char}
+     */
+    default char getChar(Object array, int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the element of the array from {@code char}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if {@code char} cannot be converted to the element type
+     */
+    default void setChar(Object array, int index, char value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the element of the array as {@code short}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @return element value
+     * @throws UnsupportedOperationException if the element cannot be converted to {@code short}
+     */
+    default short getShort(Object array, int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the element of the array from {@code short}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if {@code short} cannot be converted to the element type
+     */
+    default void setShort(Object array, int index, short value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the element of the array as {@code int}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @return element value
+     * @throws UnsupportedOperationException if the element cannot be converted to {@code int}
+     */
+    default int getInt(Object array, int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the element of the array from {@code int}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if {@code int} cannot be converted to the element type
+     */
+    default void setInt(Object array, int index, int value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the element of the array as {@code long}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @return element value
+     * @throws UnsupportedOperationException if the element cannot be converted to {@code long}
+     */
+    default long getLong(Object array, int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the element of the array from {@code long}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if {@code long} cannot be converted to the element type
+     */
+    default void setLong(Object array, int index, long value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the element of the array as {@code float}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @return element value
+     * @throws UnsupportedOperationException if the element cannot be converted to {@code float}
+     */
+    default float getFloat(Object array, int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the element of the array from {@code float}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if {@code float} cannot be converted to the element type
+     */
+    default void setFloat(Object array, int index, float value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the element of the array as {@code double}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @return element value
+     * @throws UnsupportedOperationException if the element cannot be converted to {@code double}
+     */
+    default double getDouble(Object array, int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the element of the array from {@code double}.
+     *
+     * @param array the target array
+     * @param index the element index
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if {@code double} cannot be converted to the element type
+     */
+    default void setDouble(Object array, int index, double value) {
+        throw new UnsupportedOperationException();
+    }
+}
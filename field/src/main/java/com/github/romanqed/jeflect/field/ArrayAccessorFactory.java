@@ -0,0 +1,17 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>An interface describing a factory that creates
+ * {@link ArrayAccessor} instances for subsequent access to array elements.</p>
+ */
+public interface ArrayAccessorFactory {
+
+    /**
+     * Creates a proxy implementation of the {@link ArrayAccessor} interface for the specified array type.
+     *
+     * @param clazz the target array class
+     * @return object of the generated proxy class implementing the {@link ArrayAccessor} interface
+     * @throws IllegalArgumentException if the class is not an array
+     */
+    ArrayAccessor packArray(Class<?> clazz);
+}
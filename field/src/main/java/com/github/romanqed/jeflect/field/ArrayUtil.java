@@ -0,0 +1,167 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jfunc.Exceptions;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+final class ArrayUtil {
+    private static final Class<ArrayAccessor> ACCESSOR = ArrayAccessor.class;
+    private static final Method LENGTH = Exceptions.silent(() -> ACCESSOR.getDeclaredMethod("length", Object.class));
+    private static final Method GET = Exceptions.silent(
+            () -> ACCESSOR.getDeclaredMethod("get", Object.class, int.class)
+    );
+    private static final Method SET = Exceptions.silent(
+            () -> ACCESSOR.getDeclaredMethod("set", Object.class, int.class, Object.class)
+    );
+    private static final Method COPY_RANGE = Exceptions.silent(() -> ACCESSOR.getDeclaredMethod(
+            "copyRange", Object.class, int.class, int.class, Object.class, int.class
+    ));
+    private static final String OBJECTS = Type.getInternalName(Objects.class);
+    private static final String SYSTEM = Type.getInternalName(System.class);
+
+    private ArrayUtil() {
+    }
+
+    private static MethodVisitor visitMethod(ClassWriter writer, Method method) {
+        return writer.visitMethod(
+                Opcodes.ACC_PUBLIC,
+                method.getName(),
+                Type.getMethodDescriptor(method),
+                null,
+                null
+        );
+    }
+
+    private static void loadArray(MethodVisitor visitor, Type array, int index) {
+        visitor.visitVarInsn(Opcodes.ALOAD, index);
+        visitor.visitTypeInsn(Opcodes.CHECKCAST, array.getInternalName());
+    }
+
+    private static void createLength(ClassWriter writer, Type array) {
+        var visitor = visitMethod(writer, LENGTH);
+        visitor.visitCode();
+        loadArray(visitor, array, 1);
+        visitor.visitInsn(Opcodes.ARRAYLENGTH);
+        visitor.visitInsn(Opcodes.IRETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void createGet(MethodVisitor visitor, Type array, Class<?> component, Class<?> target) {
+        visitor.visitCode();
+        loadArray(visitor, array, 1);
+        visitor.visitVarInsn(Opcodes.ILOAD, 2);
+        visitor.visitInsn(Type.getType(component).getOpcode(Opcodes.IALOAD));
+        if (target == null) {
+            // Pack primitive
+            AsmUtil.packPrimitive(visitor, component);
+            visitor.visitInsn(Opcodes.ARETURN);
+        } else {
+            // Widen value to the requested type
+            FieldUtil.widen(visitor, component, target);
+            visitor.visitInsn(Type.getType(target).getOpcode(Opcodes.IRETURN));
+        }
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void createSet(MethodVisitor visitor, Type array, Class<?> component, Class<?> source) {
+        visitor.visitCode();
+        loadArray(visitor, array, 1);
+        visitor.visitVarInsn(Opcodes.ILOAD, 2);
+        if (source == null) {
+            // Unpack primitive, reference values are checked by aastore
+            visitor.visitVarInsn(Opcodes.ALOAD, 3);
+            AsmUtil.castReference(visitor, component);
+        } else {
+            // Widen value to the element type
+            visitor.visitVarInsn(Type.getType(source).getOpcode(Opcodes.ILOAD), 3);
+            FieldUtil.widen(visitor, source, component);
+        }
+        visitor.visitInsn(Type.getType(component).getOpcode(Opcodes.IASTORE));
+        visitor.visitInsn(Opcodes.RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void createCopyRange(ClassWriter writer, Type array) {
+        var visitor = visitMethod(writer, COPY_RANGE);
+        visitor.visitCode();
+        // Check source range
+        visitor.visitVarInsn(Opcodes.ILOAD, 2);
+        visitor.visitVarInsn(Opcodes.ILOAD, 3);
+        loadArray(visitor, array, 1);
+        visitor.visitInsn(Opcodes.ARRAYLENGTH);
+        visitor.visitMethodInsn(Opcodes.INVOKESTATIC, OBJECTS, "checkFromToIndex", "(III)I", false);
+        visitor.visitInsn(Opcodes.POP);
+        // Check target type, arraycopy itself accepts any arrays with compatible elements
+        loadArray(visitor, array, 4);
+        visitor.visitInsn(Opcodes.POP);
+        // System.arraycopy(array, from, target, offset, to - from)
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitVarInsn(Opcodes.ILOAD, 2);
+        visitor.visitVarInsn(Opcodes.ALOAD, 4);
+        visitor.visitVarInsn(Opcodes.ILOAD, 5);
+        visitor.visitVarInsn(Opcodes.ILOAD, 3);
+        visitor.visitVarInsn(Opcodes.ILOAD, 2);
+        visitor.visitInsn(Opcodes.ISUB);
+        visitor.visitMethodInsn(
+                Opcodes.INVOKESTATIC,
+                SYSTEM,
+                "arraycopy",
+                "(Ljava/lang/Object;ILjava/lang/Object;II)V",
+                false
+        );
+        visitor.visitInsn(Opcodes.RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void createTyped(ClassWriter writer, Type array, Class<?> component) {
+        for (var primitive : FieldUtil.PRIMITIVES) {
+            if (FieldUtil.isWidening(component, primitive)) {
+                var name = FieldUtil.getTypedName("get", primitive);
+                var method = Exceptions.silent(() -> ACCESSOR.getDeclaredMethod(name, Object.class, int.class));
+                createGet(visitMethod(writer, method), array, component, primitive);
+            }
+            if (FieldUtil.isWidening(primitive, component)) {
+                var name = FieldUtil.getTypedName("set", primitive);
+                var method = Exceptions.silent(
+                        () -> ACCESSOR.getDeclaredMethod(name, Object.class, int.class, primitive)
+                );
+                createSet(visitMethod(writer, method), array, component, primitive);
+            }
+        }
+    }
+
+    static byte[] createAccessor(String name, Class<?> component) {
+        var array = Type.getType("[" + Type.getDescriptor(component));
+        var writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(
+                Opcodes.V11,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
+                name.replace('.', '/'),
+                null,
+                AsmUtil.OBJECT.getInternalName(),
+                new String[]{Type.getInternalName(ACCESSOR)}
+        );
+        // Create empty constructor
+        AsmUtil.createEmptyConstructor(writer);
+        // Implement universal methods
+        createLength(writer, array);
+        createGet(visitMethod(writer, GET), array, component, null);
+        createSet(visitMethod(writer, SET), array, component, null);
+        createCopyRange(writer, array);
+        // Implement typed methods for primitive arrays
+        if (component.isPrimitive()) {
+            createTyped(writer, array, component);
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
@@ -1,16 +1,22 @@
 package com.github.romanqed.jeflect.field;
 
+import com.github.romanqed.jfunc.Exceptions;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Map;
 
 final class AsmUtil {
     // String constants
     static final String INIT = "<init>";
     static final String EMPTY_DESCRIPTOR = "()V";
+    // Hash constants
+    static final String DIGEST = "SHA-256";
+    static final int HASH_LENGTH = 16;
     // Type constants
     static final Type OBJECT = Type.getType(Object.class);
     static final Map<Class<?>, Class<?>> PRIMITIVES = Map.of(
@@ -38,6 +44,36 @@ final class AsmUtil {
     private AsmUtil() {
     }
 
+    static String hash(String value) {
+        var digest = Exceptions.silent(() -> MessageDigest.getInstance(DIGEST));
+        var bytes = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+        // 128 bits are enough to make collisions practically impossible
+        var ret = new StringBuilder(HASH_LENGTH * 2);
+        for (var i = 0; i < HASH_LENGTH; ++i) {
+            ret.append(Character.forDigit((bytes[i] >> 4) & 0xF, 16));
+            ret.append(Character.forDigit(bytes[i] & 0xF, 16));
+        }
+        return ret.toString();
+    }
+
+    static void pushInt(MethodVisitor visitor, int value) {
+        // If it is in [-1, 5], use const opcodes
+        if (value >= -1 && value <= 5) {
+            visitor.visitInsn(value + Opcodes.ICONST_0);
+            return;
+        }
+        // Else use push instructions
+        if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            visitor.visitIntInsn(Opcodes.BIPUSH, value);
+            return;
+        }
+        if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            visitor.visitIntInsn(Opcodes.SIPUSH, value);
+            return;
+        }
+        visitor.visitLdcInsn(value);
+    }
+
     static void castReference(MethodVisitor visitor, Class<?> clazz) {
         if (clazz == Object.class) {
             return;
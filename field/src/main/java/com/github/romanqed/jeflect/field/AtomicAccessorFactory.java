@@ -0,0 +1,19 @@
+package com.github.romanqed.jeflect.field;
+
+import java.lang.reflect.Field;
+
+/**
+ * <p>An interface describing a factory that creates
+ * {@link AtomicFieldAccessor} instances for subsequent atomic access to a field.</p>
+ */
+public interface AtomicAccessorFactory {
+
+    /**
+     * Creates a proxy implementation of the {@link AtomicFieldAccessor} interface for the specified field.
+     *
+     * @param field the target virtual field, must be public and declared by a public class
+     * @return object of the generated proxy class implementing the {@link AtomicFieldAccessor} interface
+     * @throws IllegalArgumentException if the field is static or not public
+     */
+    AtomicFieldAccessor packAtomic(Field field);
+}
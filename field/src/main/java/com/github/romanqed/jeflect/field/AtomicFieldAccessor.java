@@ -0,0 +1,246 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>A class representing an interface for accessing a virtual field with memory ordering effects
+ * and atomic updates, as provided by {@link java.lang.invoke.VarHandle}.</p>
+ * <p>Calling non-implemented will throw {@link UnsupportedOperationException}.
+ * Reading methods are implemented for all fields, writing and updating methods only for non-final fields.
+ * Methods specialized for {@code int} and {@code long} are implemented only if the field has exactly this type,
+ * and work without packing.</p>
+ */
+public interface AtomicFieldAccessor {
+
+    /**
+     * Returns the value of the field with volatile memory semantics. The primitives will be packed.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default Object getVolatile(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the value of the field with volatile memory semantics. The primitives will be unpacked.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default void setVolatile(Object object, Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the value of the field, ensuring that subsequent loads and stores are not reordered before this access.
+     * The primitives will be packed.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default Object getAcquire(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the value of the field, ensuring that prior loads and stores are not reordered after this access.
+     * The primitives will be unpacked.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default void setRelease(Object object, Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Atomically sets the value of the field if its current value equals the expected one.
+     * The primitives will be unpacked.
+     *
+     * @param object   instance of the class declaring the field
+     * @param expected the expected value
+     * @param value    the value to be assigned
+     * @return {@code true} if successful
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default boolean compareAndSet(Object object, Object expected, Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Atomically sets the value of the field and returns the previous value. The primitives will be packed.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @return the previous value
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default Object getAndSet(Object object, Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the value of the {@code int} field with volatile memory semantics.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default int getIntVolatile(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the value of the {@code int} field with volatile memory semantics.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default void setIntVolatile(Object object, int value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the value of the {@code int} field with acquire semantics.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default int getIntAcquire(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the value of the {@code int} field with release semantics.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default void setIntRelease(Object object, int value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Atomically sets the value of the {@code int} field if its current value equals the expected one.
+     *
+     * @param object   instance of the class declaring the field
+     * @param expected the expected value
+     * @param value    the value to be assigned
+     * @return {@code true} if successful
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default boolean compareAndSetInt(Object object, int expected, int value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Atomically sets the value of the {@code int} field and returns the previous value.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @return the previous value
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default int getAndSetInt(Object object, int value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Atomically adds the delta to the value of the {@code int} field and returns the previous value.
+     *
+     * @param object instance of the class declaring the field
+     * @param delta  the value to add
+     * @return the previous value
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default int getAndAddInt(Object object, int delta) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the value of the {@code long} field with volatile memory semantics.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default long getLongVolatile(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the value of the {@code long} field with volatile memory semantics.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default void setLongVolatile(Object object, long value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the value of the {@code long} field with acquire semantics.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default long getLongAcquire(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the value of the {@code long} field with release semantics.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default void setLongRelease(Object object, long value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Atomically sets the value of the {@code long} field if its current value equals the expected one.
+     *
+     * @param object   instance of the class declaring the field
+     * @param expected the expected value
+     * @param value    the value to be assigned
+     * @return {@code true} if successful
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default boolean compareAndSetLong(Object object, long expected, long value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Atomically sets the value of the {@code long} field and returns the previous value.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @return the previous value
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default long getAndSetLong(Object object, long value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Atomically adds the delta to the value of the {@code long} field and returns the previous value.
+     *
+     * @param object instance of the class declaring the field
+     * @param delta  the value to add
+     * @return the previous value
+     * @throws UnsupportedOperationException if the operation is not supported by the packed field
+     */
+    default long getAndAddLong(Object object, long delta) {
+        throw new UnsupportedOperationException();
+    }
+}
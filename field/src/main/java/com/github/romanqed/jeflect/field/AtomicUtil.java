@@ -0,0 +1,160 @@
+package com.github.romanqed.jeflect.field;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+final class AtomicUtil {
+    private static final String HANDLE = "handle";
+    private static final String CLINIT = "<clinit>";
+    private static final Type VAR_HANDLE = Type.getType(VarHandle.class);
+    private static final String LOOKUP = Type.getInternalName(MethodHandles.Lookup.class);
+    private static final String CLASS = Type.getInternalName(Class.class);
+    private static final String FIND_DESCRIPTOR = "(Ljava/lang/Class;Ljava/lang/String;Ljava/lang/Class;)"
+            + VAR_HANDLE.getDescriptor();
+
+    private AtomicUtil() {
+    }
+
+    private static void createInitializer(ClassWriter writer, String name, Field field) {
+        var visitor = writer.visitMethod(Opcodes.ACC_STATIC, CLINIT, AsmUtil.EMPTY_DESCRIPTOR, null, null);
+        visitor.visitCode();
+        // MethodHandles.lookup().findVarHandle(Owner.class, "name", type.class)
+        visitor.visitMethodInsn(
+                Opcodes.INVOKESTATIC,
+                Type.getInternalName(MethodHandles.class),
+                "lookup",
+                "()L" + LOOKUP + ";",
+                false
+        );
+        visitor.visitLdcInsn(Type.getType(field.getDeclaringClass()));
+        visitor.visitLdcInsn(field.getName());
+        var type = field.getType();
+        if (type.isPrimitive()) {
+            // Primitive class literals are not loadable constants in V11
+            var wrap = Type.getInternalName(AsmUtil.PRIMITIVES.get(type));
+            visitor.visitFieldInsn(Opcodes.GETSTATIC, wrap, "TYPE", "L" + CLASS + ";");
+        } else {
+            visitor.visitLdcInsn(Type.getType(type));
+        }
+        visitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, LOOKUP, "findVarHandle", FIND_DESCRIPTOR, false);
+        visitor.visitFieldInsn(Opcodes.PUTSTATIC, name, HANDLE, VAR_HANDLE.getDescriptor());
+        visitor.visitInsn(Opcodes.RETURN);
+        visitor.visitMaxs(4, 0);
+        visitor.visitEnd();
+    }
+
+    private static void createMethod(ClassWriter writer,
+                                     String name,
+                                     String method,
+                                     String mode,
+                                     Field field,
+                                     Class<?> value,
+                                     int values,
+                                     Class<?> result) {
+        var owner = Type.getType(field.getDeclaringClass());
+        var type = field.getType();
+        var params = new Type[values + 1];
+        var handleParams = new Type[values + 1];
+        params[0] = AsmUtil.OBJECT;
+        handleParams[0] = owner;
+        for (var i = 1; i <= values; ++i) {
+            params[i] = Type.getType(value);
+            handleParams[i] = Type.getType(type);
+        }
+        var visitor = writer.visitMethod(
+                Opcodes.ACC_PUBLIC,
+                method,
+                Type.getMethodDescriptor(Type.getType(result), params),
+                null,
+                null
+        );
+        visitor.visitCode();
+        visitor.visitFieldInsn(Opcodes.GETSTATIC, name, HANDLE, VAR_HANDLE.getDescriptor());
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitTypeInsn(Opcodes.CHECKCAST, owner.getInternalName());
+        var slot = 2;
+        for (var i = 1; i <= values; ++i) {
+            var param = params[i];
+            visitor.visitVarInsn(param.getOpcode(Opcodes.ILOAD), slot);
+            if (value == Object.class) {
+                AsmUtil.castReference(visitor, type);
+            }
+            slot += param.getSize();
+        }
+        // Signature polymorphic call, exact types let the handle be linked without adaptation
+        var handleResult = result == boolean.class || result == void.class ? result : type;
+        visitor.visitMethodInsn(
+                Opcodes.INVOKEVIRTUAL,
+                VAR_HANDLE.getInternalName(),
+                mode,
+                Type.getMethodDescriptor(Type.getType(handleResult), handleParams),
+                false
+        );
+        if (result == Object.class) {
+            AsmUtil.packPrimitive(visitor, type);
+        }
+        visitor.visitInsn(Type.getType(result).getOpcode(Opcodes.IRETURN));
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void createMethods(ClassWriter writer, String name, Field field, Class<?> value, String suffix) {
+        var isFinal = Modifier.isFinal(field.getModifiers());
+        var get = "get" + suffix;
+        var set = "set" + suffix;
+        createMethod(writer, name, get + "Volatile", "getVolatile", field, value, 0, value);
+        createMethod(writer, name, get + "Acquire", "getAcquire", field, value, 0, value);
+        // Handles of final fields are read-only
+        if (isFinal) {
+            return;
+        }
+        createMethod(writer, name, set + "Volatile", "setVolatile", field, value, 1, void.class);
+        createMethod(writer, name, set + "Release", "setRelease", field, value, 1, void.class);
+        createMethod(writer, name, "compareAndSet" + suffix, "compareAndSet", field, value, 2, boolean.class);
+        createMethod(writer, name, "getAndSet" + suffix, "getAndSet", field, value, 1, value);
+        if (value != Object.class) {
+            createMethod(writer, name, "getAndAdd" + suffix, "getAndAdd", field, value, 1, value);
+        }
+    }
+
+    static byte[] createAccessor(String name, Field field) {
+        var internal = name.replace('.', '/');
+        var writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(
+                Opcodes.V11,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
+                internal,
+                null,
+                AsmUtil.OBJECT.getInternalName(),
+                new String[]{Type.getInternalName(AtomicFieldAccessor.class)}
+        );
+        // Static final handle is a constant for the JIT, so every access mode is inlined
+        writer.visitField(
+                Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL,
+                HANDLE,
+                VAR_HANDLE.getDescriptor(),
+                null,
+                null
+        ).visitEnd();
+        createInitializer(writer, internal, field);
+        AsmUtil.createEmptyConstructor(writer);
+        // Generic methods
+        createMethods(writer, internal, field, Object.class, "");
+        // Specialized methods
+        var type = field.getType();
+        if (type == int.class) {
+            createMethods(writer, internal, field, int.class, "Int");
+        } else if (type == long.class) {
+            createMethods(writer, internal, field, long.class, "Long");
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
@@ -2,19 +2,28 @@ package com.github.romanqed.jeflect.field;
 
 import com.github.romanqed.jeflect.loader.DefineClassLoader;
 import com.github.romanqed.jeflect.loader.DefineLoader;
-import com.github.romanqed.jeflect.loader.DefineObjectFactory;
 import com.github.romanqed.jeflect.loader.ObjectFactory;
+import org.objectweb.asm.Type;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 /**
  * <p>A class representing a factory that creates
  * {@link FieldAccessor} instances for subsequent access to the field.</p>
  * <p>Access occurs at almost native speed, minus the time to call the proxy class method.</p>
+ * <p>Accessor names are derived from a 128-bit digest of the field signature,
+ * so they are unique and stay the same across JVM runs.</p>
+ * <p>Batch packing generates the bytecode of all missing accessors in parallel and defines them in a single pass,
+ * if the underlying {@link ObjectFactory} supports it.</p>
  */
 public final class BytecodeAccessorFactory implements FieldAccessorFactory {
-    private static final String ACCESSOR = "Accessor";
+    private static final String ACCESSOR = "com.github.romanqed.jeflect.field.accessor.Accessor";
     private final ObjectFactory<FieldAccessor> factory;
 
     public BytecodeAccessorFactory(ObjectFactory<FieldAccessor> factory) {
@@ -22,16 +31,38 @@ public final class BytecodeAccessorFactory implements FieldAccessorFactory {
     }
 
     public BytecodeAccessorFactory(DefineLoader loader) {
-        this(new DefineObjectFactory<>(loader));
+        this(ObjectFactory.of(loader));
     }
 
     public BytecodeAccessorFactory() {
         this(new DefineClassLoader());
     }
 
+    private static String getAccessorName(Field field) {
+        var toHash = field.getDeclaringClass().getName() + '.' + field.getName() + ':' + Type.getDescriptor(field.getType());
+        return ACCESSOR + AsmUtil.hash(toHash);
+    }
+
     public FieldAccessor packField(Field field) {
-        var toHash = field.getDeclaringClass().getName() + field.getName();
-        var name = ACCESSOR + toHash.hashCode();
+        var name = getAccessorName(field);
         return factory.create(name, () -> FieldUtil.createAccessor(name, field));
     }
+
+    @Override
+    public List<FieldAccessor> packFields(Collection<Field> fields) {
+        var names = new ArrayList<String>(fields.size());
+        var providers = new HashMap<String, Callable<byte[]>>();
+        for (var field : fields) {
+            var name = getAccessorName(field);
+            names.add(name);
+            // Duplicates share the same accessor
+            providers.putIfAbsent(name, () -> FieldUtil.createAccessor(name, field));
+        }
+        var accessors = factory.create(providers);
+        var ret = new ArrayList<FieldAccessor>(names.size());
+        for (var name : names) {
+            ret.add(accessors.get(name));
+        }
+        return ret;
+    }
 }
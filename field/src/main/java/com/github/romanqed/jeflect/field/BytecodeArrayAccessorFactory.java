@@ -0,0 +1,56 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineLoader;
+import com.github.romanqed.jeflect.loader.ObjectFactory;
+import org.objectweb.asm.Type;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>A class representing a factory that creates
+ * {@link ArrayAccessor} instances for subsequent access to array elements.</p>
+ * <p>Accessors are cached per array class. Arrays of primitives get their own specialized accessor,
+ * while arrays of all reference types share one accessor working through {@code Object[]}.</p>
+ */
+public final class BytecodeArrayAccessorFactory implements ArrayAccessorFactory {
+    private static final String ACCESSOR = "com.github.romanqed.jeflect.field.accessor.Array";
+    private final ObjectFactory<ArrayAccessor> factory;
+    private final Map<Class<?>, ArrayAccessor> accessors;
+
+    public BytecodeArrayAccessorFactory(ObjectFactory<ArrayAccessor> factory) {
+        this.factory = Objects.requireNonNull(factory);
+        this.accessors = new ConcurrentHashMap<>();
+    }
+
+    public BytecodeArrayAccessorFactory(DefineLoader loader) {
+        this(ObjectFactory.of(loader));
+    }
+
+    public BytecodeArrayAccessorFactory() {
+        this(new DefineClassLoader());
+    }
+
+    private ArrayAccessor createAccessor(Class<?> clazz) {
+        var component = clazz.getComponentType();
+        var type = component.isPrimitive() ? component : Object.class;
+        var name = ACCESSOR + AsmUtil.hash(Type.getDescriptor(type));
+        return factory.create(name, () -> ArrayUtil.createAccessor(name, type));
+    }
+
+    @Override
+    public ArrayAccessor packArray(Class<?> clazz) {
+        if (!clazz.isArray()) {
+            throw new IllegalArgumentException("Cannot access elements of non-array class " + clazz);
+        }
+        var ret = accessors.get(clazz);
+        if (ret != null) {
+            return ret;
+        }
+        ret = createAccessor(clazz);
+        var present = accessors.putIfAbsent(clazz, ret);
+        return present == null ? ret : present;
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineLoader;
+import com.github.romanqed.jeflect.loader.ObjectFactory;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * <p>A class representing a factory that creates
+ * {@link AtomicFieldAccessor} instances for subsequent atomic access to a field.</p>
+ * <p>Each generated accessor holds its {@link java.lang.invoke.VarHandle} in a static final field,
+ * so the JIT treats the handle as a constant.</p>
+ */
+public final class BytecodeAtomicAccessorFactory implements AtomicAccessorFactory {
+    private static final String ACCESSOR = "com.github.romanqed.jeflect.field.accessor.Atomic";
+    private final ObjectFactory<AtomicFieldAccessor> factory;
+
+    public BytecodeAtomicAccessorFactory(ObjectFactory<AtomicFieldAccessor> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    public BytecodeAtomicAccessorFactory(DefineLoader loader) {
+        this(ObjectFactory.of(loader));
+    }
+
+    public BytecodeAtomicAccessorFactory() {
+        this(new DefineClassLoader());
+    }
+
+    private static String getAccessorName(Field field) {
+        var toHash = field.getDeclaringClass().getName() + '.' + field.getName() + ':' + Type.getDescriptor(field.getType());
+        return ACCESSOR + AsmUtil.hash(toHash);
+    }
+
+    @Override
+    public AtomicFieldAccessor packAtomic(Field field) {
+        var modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers)) {
+            throw new IllegalArgumentException("Cannot create atomic accessor for static field " + field);
+        }
+        if (!Modifier.isPublic(modifiers)) {
+            throw new IllegalArgumentException("Cannot create atomic accessor for non-public field " + field);
+        }
+        var name = getAccessorName(field);
+        return factory.create(name, () -> AtomicUtil.createAccessor(name, field));
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineLoader;
+import com.github.romanqed.jeflect.loader.ObjectFactory;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A class representing a factory that creates
+ * {@link ClassAccessor} instances for subsequent access to all public instance fields of a class.</p>
+ * <p>A single class is generated for the whole target class. Fields are selected with a {@code tableswitch},
+ * and field names are resolved with a {@code lookupswitch} over their hash codes.</p>
+ * <p>Accessor names are derived from a 128-bit digest of the class name and its field signatures,
+ * so they are unique and stay the same across JVM runs.</p>
+ */
+public final class BytecodeClassAccessorFactory implements ClassAccessorFactory {
+    private static final String ACCESSOR = "com.github.romanqed.jeflect.field.accessor.ClassAccessor";
+    private final ObjectFactory<ClassAccessor> factory;
+
+    public BytecodeClassAccessorFactory(ObjectFactory<ClassAccessor> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    public BytecodeClassAccessorFactory(DefineLoader loader) {
+        this(ObjectFactory.of(loader));
+    }
+
+    public BytecodeClassAccessorFactory() {
+        this(new DefineClassLoader());
+    }
+
+    private static String getAccessorName(Class<?> clazz, List<Field> fields) {
+        var toHash = new StringBuilder(clazz.getName());
+        for (var field : fields) {
+            toHash.append(';')
+                    .append(field.getDeclaringClass().getName())
+                    .append('.')
+                    .append(field.getName())
+                    .append(':')
+                    .append(Type.getDescriptor(field.getType()));
+        }
+        return ACCESSOR + AsmUtil.hash(toHash.toString());
+    }
+
+    @Override
+    public ClassAccessor packClass(Class<?> clazz) {
+        var fields = ClassAccessorUtil.getFields(clazz);
+        var name = getAccessorName(clazz, fields);
+        return factory.create(name, () -> ClassAccessorUtil.createAccessor(name, clazz, fields));
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineLoader;
+import com.github.romanqed.jeflect.loader.ObjectFactory;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * <p>A class representing a factory that creates
+ * {@link ColumnExtractor} instances for subsequent extraction of a field from many objects.</p>
+ * <p>Extractor names are derived from a 128-bit digest of the field signature,
+ * so they are unique and stay the same across JVM runs.</p>
+ */
+public final class BytecodeColumnExtractorFactory implements ColumnExtractorFactory {
+    private static final String EXTRACTOR = "com.github.romanqed.jeflect.field.accessor.Column";
+    private final ObjectFactory<ColumnExtractor> factory;
+
+    public BytecodeColumnExtractorFactory(ObjectFactory<ColumnExtractor> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    public BytecodeColumnExtractorFactory(DefineLoader loader) {
+        this(ObjectFactory.of(loader));
+    }
+
+    public BytecodeColumnExtractorFactory() {
+        this(new DefineClassLoader());
+    }
+
+    private static String getExtractorName(Field field) {
+        var toHash = field.getDeclaringClass().getName() + '.' + field.getName() + ':' + Type.getDescriptor(field.getType());
+        return EXTRACTOR + AsmUtil.hash(toHash);
+    }
+
+    @Override
+    public ColumnExtractor packColumn(Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            throw new IllegalArgumentException("Cannot extract static field " + field);
+        }
+        var name = getExtractorName(field);
+        return factory.create(name, () -> ColumnUtil.createExtractor(name, field));
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineLoader;
+import com.github.romanqed.jeflect.loader.ObjectFactory;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A class representing a factory that creates
+ * {@link Equalizer}, {@link Hasher} and {@link Comparator} instances with straight-line generated code,
+ * reading fields directly and comparing primitives without packing.</p>
+ * <p>The fields must be public instance fields of a public class or its superclasses.</p>
+ * <p>Proxy names are derived from a 128-bit digest of the class name and the field signatures,
+ * so they are unique and stay the same across JVM runs.</p>
+ */
+public final class BytecodeComparisonFactory implements ComparisonFactory {
+    private static final String EQUALIZER = "com.github.romanqed.jeflect.field.accessor.Equalizer";
+    private static final String HASHER = "com.github.romanqed.jeflect.field.accessor.Hasher";
+    private static final String COMPARATOR = "com.github.romanqed.jeflect.field.accessor.Comparator";
+    private final ObjectFactory<Object> factory;
+
+    public BytecodeComparisonFactory(ObjectFactory<Object> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    public BytecodeComparisonFactory(DefineLoader loader) {
+        this(ObjectFactory.of(loader));
+    }
+
+    public BytecodeComparisonFactory() {
+        this(new DefineClassLoader());
+    }
+
+    private static String getName(String prefix, Class<?> clazz, List<Field> fields) {
+        var toHash = new StringBuilder(clazz.getName());
+        for (var field : fields) {
+            toHash.append(';')
+                    .append(field.getDeclaringClass().getName())
+                    .append('.')
+                    .append(field.getName())
+                    .append(':')
+                    .append(Type.getDescriptor(field.getType()));
+        }
+        return prefix + AsmUtil.hash(toHash.toString());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Equalizer<T> packEqualizer(Class<T> clazz, List<Field> fields) {
+        var copy = List.copyOf(fields);
+        ComparisonUtil.checkFields(clazz, copy, false);
+        var name = getName(EQUALIZER, clazz, copy);
+        return (Equalizer<T>) factory.create(name, () -> ComparisonUtil.createEqualizer(name, clazz, copy));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Hasher<T> packHasher(Class<T> clazz, List<Field> fields) {
+        var copy = List.copyOf(fields);
+        ComparisonUtil.checkFields(clazz, copy, false);
+        var name = getName(HASHER, clazz, copy);
+        return (Hasher<T>) factory.create(name, () -> ComparisonUtil.createHasher(name, clazz, copy));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Comparator<T> packComparator(Class<T> clazz, List<Field> fields) {
+        var copy = List.copyOf(fields);
+        ComparisonUtil.checkFields(clazz, copy, true);
+        var name = getName(COMPARATOR, clazz, copy);
+        return (Comparator<T>) factory.create(name, () -> ComparisonUtil.createComparator(name, clazz, copy));
+    }
+}
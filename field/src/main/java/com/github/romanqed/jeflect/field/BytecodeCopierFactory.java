@@ -0,0 +1,117 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineLoader;
+import com.github.romanqed.jeflect.loader.ObjectFactory;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <p>A class representing a factory that creates
+ * {@link ObjectCopier} instances copying objects field by field with straight-line generated code.</p>
+ * <p>By default, copies are shallow and include transient fields; see {@link CopyOption} for other modes.
+ * Copiers can be created for public non-abstract classes with a public no-arg constructor,
+ * whose non-final instance fields, including inherited ones, are all public.</p>
+ * <p>Copier names are derived from a 128-bit digest of the class name, its field signatures and the copy mode,
+ * so they are unique and stay the same across JVM runs.</p>
+ */
+public final class BytecodeCopierFactory implements CopierFactory {
+    private static final String COPIER = "com.github.romanqed.jeflect.field.accessor.Copier";
+    private final ObjectFactory<ObjectCopier<?>> factory;
+    private final boolean deep;
+    private final boolean skipTransient;
+    private final Map<Class<?>, ObjectCopier<?>> copiers;
+    private final Function<Object, Object> copier;
+
+    public BytecodeCopierFactory(ObjectFactory<ObjectCopier<?>> factory, CopyOption... options) {
+        this.factory = Objects.requireNonNull(factory);
+        var set = List.of(options);
+        this.deep = set.contains(CopyOption.DEEP);
+        this.skipTransient = set.contains(CopyOption.SKIP_TRANSIENT);
+        this.copiers = new ConcurrentHashMap<>();
+        this.copier = this::copy;
+    }
+
+    public BytecodeCopierFactory(DefineLoader loader, CopyOption... options) {
+        this(ObjectFactory.of(loader), options);
+    }
+
+    public BytecodeCopierFactory(CopyOption... options) {
+        this(new DefineClassLoader(), options);
+    }
+
+    private String getCopierName(Class<?> clazz, List<Field> fields) {
+        var toHash = new StringBuilder(clazz.getName());
+        for (var field : fields) {
+            toHash.append(';')
+                    .append(field.getDeclaringClass().getName())
+                    .append('.')
+                    .append(field.getName())
+                    .append(':')
+                    .append(Type.getDescriptor(field.getType()));
+        }
+        toHash.append(deep ? ";deep" : ";shallow");
+        return COPIER + AsmUtil.hash(toHash.toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copy(Object value) {
+        if (value == null) {
+            return null;
+        }
+        var clazz = value.getClass();
+        if (CopierUtil.isImmutable(clazz)) {
+            return value;
+        }
+        if (value instanceof Collection) {
+            return CopierUtil.copyCollection((Collection<?>) value, copier);
+        }
+        if (value instanceof Map) {
+            return CopierUtil.copyMap((Map<?, ?>) value, copier);
+        }
+        if (!clazz.isArray()) {
+            return ((ObjectCopier<Object>) packCopier(clazz)).copy(value);
+        }
+        if (clazz.getComponentType().isPrimitive()) {
+            var length = Array.getLength(value);
+            var ret = Array.newInstance(clazz.getComponentType(), length);
+            System.arraycopy(value, 0, ret, 0, length);
+            return ret;
+        }
+        var ret = ((Object[]) value).clone();
+        for (var i = 0; i < ret.length; ++i) {
+            ret[i] = copy(ret[i]);
+        }
+        return ret;
+    }
+
+    private ObjectCopier<?> createCopier(Class<?> clazz) {
+        var fields = CopierUtil.getFields(clazz, skipTransient);
+        var name = getCopierName(clazz, fields);
+        return factory.create(
+                name,
+                () -> CopierUtil.createCopier(name, clazz, fields, deep),
+                type -> (ObjectCopier<?>) type.getConstructor(Function.class).newInstance(copier)
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ObjectCopier<T> packCopier(Class<T> clazz) {
+        var ret = copiers.get(clazz);
+        if (ret != null) {
+            return (ObjectCopier<T>) ret;
+        }
+        ret = createCopier(clazz);
+        var present = copiers.putIfAbsent(clazz, ret);
+        return (ObjectCopier<T>) (present == null ? ret : present);
+    }
+}
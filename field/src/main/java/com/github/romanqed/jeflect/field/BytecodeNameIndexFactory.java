@@ -0,0 +1,58 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineLoader;
+import com.github.romanqed.jeflect.loader.ObjectFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A class representing a factory that creates
+ * {@link NameIndex} instances for subsequent resolving of names to slots.</p>
+ * <p>Index names are derived from a 128-bit digest of the indexed names,
+ * so they are unique and stay the same across JVM runs.</p>
+ */
+public final class BytecodeNameIndexFactory implements NameIndexFactory {
+    private static final String INDEX = "com.github.romanqed.jeflect.field.accessor.NameIndex";
+    private final ObjectFactory<NameIndex> factory;
+
+    public BytecodeNameIndexFactory(ObjectFactory<NameIndex> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    public BytecodeNameIndexFactory(DefineLoader loader) {
+        this(ObjectFactory.of(loader));
+    }
+
+    public BytecodeNameIndexFactory() {
+        this(new DefineClassLoader());
+    }
+
+    private static String getIndexName(List<String> names) {
+        var toHash = new StringBuilder();
+        for (var name : names) {
+            // Length prefix keeps names containing separators unambiguous
+            toHash.append(name.length()).append(':').append(name).append(';');
+        }
+        return INDEX + AsmUtil.hash(toHash.toString());
+    }
+
+    @Override
+    public NameIndex packNames(List<String> names) {
+        var copy = List.copyOf(names);
+        var name = getIndexName(copy);
+        return factory.create(name, () -> NameIndexUtil.createIndex(name, copy));
+    }
+
+    @Override
+    public NameIndex packClass(Class<?> clazz) {
+        var fields = ClassAccessorUtil.getFields(clazz);
+        var names = new ArrayList<String>(fields.size());
+        for (var field : fields) {
+            names.add(field.getName());
+        }
+        return packNames(names);
+    }
+}
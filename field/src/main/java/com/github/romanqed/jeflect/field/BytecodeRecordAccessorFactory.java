@@ -0,0 +1,49 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jeflect.loader.DefineLoader;
+import com.github.romanqed.jeflect.loader.ObjectFactory;
+
+/**
+ * <p>A class representing a factory that creates
+ * {@link RecordAccessor} instances for subsequent access to the components of a record class.</p>
+ * <p>Components are read with their accessor methods, and new records are created
+ * with the canonical constructor, so no reflection is involved.</p>
+ * <p>Records are available since Java 16. On earlier versions all constructors of this class
+ * throw {@link UnsupportedOperationException}.</p>
+ */
+public final class BytecodeRecordAccessorFactory implements RecordAccessorFactory {
+
+    /**
+     * Constructs a new {@code BytecodeRecordAccessorFactory} with the specified object factory.
+     *
+     * @param factory the factory used to define accessor classes and create their instances
+     * @throws UnsupportedOperationException if records are not supported by the runtime
+     */
+    public BytecodeRecordAccessorFactory(ObjectFactory<RecordAccessor> factory) {
+        throw new UnsupportedOperationException("Records are supported since Java 16");
+    }
+
+    /**
+     * Constructs a new {@code BytecodeRecordAccessorFactory} with the specified define loader.
+     *
+     * @param loader the loader used to define accessor classes
+     * @throws UnsupportedOperationException if records are not supported by the runtime
+     */
+    public BytecodeRecordAccessorFactory(DefineLoader loader) {
+        throw new UnsupportedOperationException("Records are supported since Java 16");
+    }
+
+    /**
+     * Constructs a new {@code BytecodeRecordAccessorFactory} with the default define loader.
+     *
+     * @throws UnsupportedOperationException if records are not supported by the runtime
+     */
+    public BytecodeRecordAccessorFactory() {
+        throw new UnsupportedOperationException("Records are supported since Java 16");
+    }
+
+    @Override
+    public RecordAccessor packRecord(Class<?> clazz) {
+        throw new UnsupportedOperationException("Records are supported since Java 16");
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>A class representing an interface for accessing all public instance fields of a class by their indices.</p>
+ * <p>Fields are indexed starting from the fields of the topmost superclass, in declaration order.
+ * Fields of a subclass that hide fields of a superclass are indexed as well, unless the hidden field
+ * is declared by a non-public superclass: such field can only be reached by name through a subclass,
+ * so accessors cannot be created for these classes.</p>
+ * <p>The state of all fields can be copied at once into an {@code Object[]},
+ * or into a {@code long[]} for primitive fields and an {@code Object[]} for reference fields,
+ * and restored from them. In the split form the values of primitive fields are stored as raw bits
+ * (floating-point values by {@link Double#doubleToRawLongBits(double)} and {@link Float#floatToRawIntBits(float)},
+ * booleans as 0 or 1) in the order of their indices, and no value is packed.</p>
+ */
+public interface ClassAccessor {
+
+    /**
+     * Gets the value of the field with the specified index. The primitives will be packed.
+     *
+     * @param object instance of the class
+     * @param index  the index of the field
+     * @return field value
+     * @throws IndexOutOfBoundsException if there is no field with the specified index
+     */
+    Object get(Object object, int index);
+
+    /**
+     * Sets the value of the field with the specified index. The primitives will be unpacked.
+     *
+     * @param object instance of the class
+     * @param index  the index of the field
+     * @param value  the value to be assigned
+     * @throws IndexOutOfBoundsException     if there is no field with the specified index
+     * @throws UnsupportedOperationException if the field is final
+     */
+    void set(Object object, int index, Object value);
+
+    /**
+     * Finds the index of the field with the specified name.
+     * If several fields have the same name, the index of the field declared in the most derived class is returned.
+     *
+     * @param name the name of the field
+     * @return the index of the field, or -1 if there is no such field or the name is {@code null}
+     */
+    int indexOf(String name);
+
+    /**
+     * Returns the name of the field with the specified index.
+     *
+     * @param index the index of the field
+     * @return the name of the field
+     * @throws IndexOutOfBoundsException if there is no field with the specified index
+     */
+    String getName(int index);
+
+    /**
+     * Returns the number of accessible fields.
+     *
+     * @return the number of fields
+     */
+    int size();
+
+    /**
+     * Returns the number of primitive fields, that is the required length of the primitive snapshot array.
+     *
+     * @return the number of primitive fields
+     */
+    int getPrimitiveCount();
+
+    /**
+     * Returns the number of reference fields, that is the required length of the reference snapshot array.
+     *
+     * @return the number of reference fields
+     */
+    int getReferenceCount();
+
+    /**
+     * Copies the values of all fields into the specified array, at their indices. The primitives will be packed.
+     *
+     * @param object instance of the class
+     * @param values the array of at least {@link #size()} elements
+     */
+    void snapshot(Object object, Object[] values);
+
+    /**
+     * Assigns the values from the specified array to all non-final fields. The primitives will be unpacked.
+     *
+     * @param object instance of the class
+     * @param values the array of at least {@link #size()} elements, filled as by {@link #snapshot(Object, Object[])}
+     */
+    void restore(Object object, Object[] values);
+
+    /**
+     * Copies the values of all fields into the specified arrays without packing.
+     *
+     * @param object     instance of the class
+     * @param primitives the array of at least {@link #getPrimitiveCount()} elements for primitive fields
+     * @param references the array of at least {@link #getReferenceCount()} elements for reference fields
+     */
+    void snapshot(Object object, long[] primitives, Object[] references);
+
+    /**
+     * Assigns the values from the specified arrays to all non-final fields without unpacking.
+     *
+     * @param object     instance of the class
+     * @param primitives the array of primitive values, filled as by {@link #snapshot(Object, long[], Object[])}
+     * @param references the array of reference values, filled as by {@link #snapshot(Object, long[], Object[])}
+     */
+    void restore(Object object, long[] primitives, Object[] references);
+}
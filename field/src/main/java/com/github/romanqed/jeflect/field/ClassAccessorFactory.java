@@ -0,0 +1,17 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>An interface describing a factory that creates
+ * {@link ClassAccessor} instances for subsequent access to all fields of a class.</p>
+ */
+public interface ClassAccessorFactory {
+
+    /**
+     * Creates a proxy implementation of the {@link ClassAccessor} interface for the specified class.
+     *
+     * @param clazz the target class
+     * @return object of the generated proxy class implementing the {@link ClassAccessor} interface
+     * @throws IllegalArgumentException if a public field of a non-public superclass is hidden by another field
+     */
+    ClassAccessor packClass(Class<?> clazz);
+}
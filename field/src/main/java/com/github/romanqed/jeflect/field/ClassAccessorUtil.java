@@ -0,0 +1,376 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jfunc.Exceptions;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+final class ClassAccessorUtil {
+    private static final Class<ClassAccessor> ACCESSOR = ClassAccessor.class;
+    private static final Method GET = Exceptions.silent(
+            () -> ACCESSOR.getDeclaredMethod("get", Object.class, int.class)
+    );
+    private static final Method SET = Exceptions.silent(
+            () -> ACCESSOR.getDeclaredMethod("set", Object.class, int.class, Object.class)
+    );
+    private static final Method INDEX_OF = Exceptions.silent(
+            () -> ACCESSOR.getDeclaredMethod("indexOf", String.class)
+    );
+    private static final Method GET_NAME = Exceptions.silent(() -> ACCESSOR.getDeclaredMethod("getName", int.class));
+    private static final Method SIZE = Exceptions.silent(() -> ACCESSOR.getDeclaredMethod("size"));
+    private static final Method PRIMITIVE_COUNT = Exceptions.silent(() -> ACCESSOR.getDeclaredMethod("getPrimitiveCount"));
+    private static final Method REFERENCE_COUNT = Exceptions.silent(() -> ACCESSOR.getDeclaredMethod("getReferenceCount"));
+    private static final Method SNAPSHOT = Exceptions.silent(
+            () -> ACCESSOR.getDeclaredMethod("snapshot", Object.class, Object[].class)
+    );
+    private static final Method RESTORE = Exceptions.silent(
+            () -> ACCESSOR.getDeclaredMethod("restore", Object.class, Object[].class)
+    );
+    private static final Method SPLIT_SNAPSHOT = Exceptions.silent(
+            () -> ACCESSOR.getDeclaredMethod("snapshot", Object.class, long[].class, Object[].class)
+    );
+    private static final Method SPLIT_RESTORE = Exceptions.silent(
+            () -> ACCESSOR.getDeclaredMethod("restore", Object.class, long[].class, Object[].class)
+    );
+    // Local variable containing the casted object in snapshot and restore methods
+    private static final int OBJECT = 4;
+    private static final String INDEX_EXCEPTION = Type.getInternalName(IndexOutOfBoundsException.class);
+    private static final String UNSUPPORTED_EXCEPTION = Type.getInternalName(UnsupportedOperationException.class);
+
+    private ClassAccessorUtil() {
+    }
+
+    static List<Field> getFields(Class<?> clazz) {
+        // Collect the hierarchy, so superclass fields go first
+        var hierarchy = new ArrayList<Class<?>>();
+        for (var current = clazz; current != null; current = current.getSuperclass()) {
+            hierarchy.add(current);
+        }
+        Collections.reverse(hierarchy);
+        var ret = new ArrayList<Field>();
+        for (var current : hierarchy) {
+            for (var field : current.getDeclaredFields()) {
+                var modifiers = field.getModifiers();
+                if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)) {
+                    // Fail early if the field cannot be accessed
+                    getOwner(clazz, field);
+                    ret.add(field);
+                }
+            }
+        }
+        return ret;
+    }
+
+    private static boolean declaresField(Class<?> clazz, String name) {
+        for (var field : clazz.getDeclaredFields()) {
+            if (field.getName().equals(name)) {
+                return true;
+            }
+        }
+        // Field resolution checks superinterfaces before the superclass
+        for (var type : clazz.getInterfaces()) {
+            for (var field : type.getFields()) {
+                if (field.getName().equals(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static String getOwner(Class<?> clazz, Field field) {
+        var declaring = field.getDeclaringClass();
+        if (Modifier.isPublic(declaring.getModifiers())) {
+            return Type.getInternalName(declaring);
+        }
+        // Fields of non-public superclasses are accessed through the nearest public subclass,
+        // so the field resolution must not stop at a field with the same name on the way
+        var owner = clazz;
+        for (var current = clazz; current != declaring; current = current.getSuperclass()) {
+            if (Modifier.isPublic(current.getModifiers())) {
+                owner = current;
+            }
+        }
+        for (var current = owner; current != declaring; current = current.getSuperclass()) {
+            if (declaresField(current, field.getName())) {
+                throw new IllegalArgumentException(
+                        "Cannot access field " + field + " of non-public class, it is hidden by " + current
+                );
+            }
+        }
+        return Type.getInternalName(owner);
+    }
+
+    private static MethodVisitor visitMethod(ClassWriter writer, Method method) {
+        return writer.visitMethod(
+                Opcodes.ACC_PUBLIC,
+                method.getName(),
+                Type.getMethodDescriptor(method),
+                null,
+                null
+        );
+    }
+
+    private static void throwException(MethodVisitor visitor, String exception, int index) {
+        visitor.visitTypeInsn(Opcodes.NEW, exception);
+        visitor.visitInsn(Opcodes.DUP);
+        if (index < 0) {
+            visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, exception, AsmUtil.INIT, AsmUtil.EMPTY_DESCRIPTOR, false);
+        } else {
+            visitor.visitVarInsn(Opcodes.ILOAD, index);
+            visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, exception, AsmUtil.INIT, "(I)V", false);
+        }
+        visitor.visitInsn(Opcodes.ATHROW);
+    }
+
+    static void createSwitch(MethodVisitor visitor, int index, int size, BiConsumer<MethodVisitor, Integer> body) {
+        // Open method
+        visitor.visitCode();
+        var fail = new Label();
+        if (size > 0) {
+            var labels = new Label[size];
+            for (var i = 0; i < size; ++i) {
+                labels[i] = new Label();
+            }
+            // Switch by index
+            visitor.visitVarInsn(Opcodes.ILOAD, index);
+            visitor.visitTableSwitchInsn(0, size - 1, fail, labels);
+            for (var i = 0; i < size; ++i) {
+                visitor.visitLabel(labels[i]);
+                body.accept(visitor, i);
+            }
+        }
+        // Unknown index
+        visitor.visitLabel(fail);
+        throwException(visitor, INDEX_EXCEPTION, index);
+        // Close method
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void createConstant(ClassWriter writer, Method method, int value) {
+        var visitor = visitMethod(writer, method);
+        visitor.visitCode();
+        AsmUtil.pushInt(visitor, value);
+        visitor.visitInsn(Opcodes.IRETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    static void toBits(MethodVisitor visitor, Class<?> type) {
+        if (type == float.class) {
+            visitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Float", "floatToRawIntBits", "(F)I", false);
+        } else if (type == double.class) {
+            visitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Double", "doubleToRawLongBits", "(D)J", false);
+            return;
+        }
+        if (type != long.class) {
+            visitor.visitInsn(Opcodes.I2L);
+        }
+    }
+
+    static void fromBits(MethodVisitor visitor, Class<?> type) {
+        if (type == long.class) {
+            return;
+        }
+        if (type == double.class) {
+            visitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Double", "longBitsToDouble", "(J)D", false);
+            return;
+        }
+        visitor.visitInsn(Opcodes.L2I);
+        // Narrow int explicitly, so invalid bits cannot leak into the field
+        if (type == float.class) {
+            visitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Float", "intBitsToFloat", "(I)F", false);
+        } else if (type == byte.class) {
+            visitor.visitInsn(Opcodes.I2B);
+        } else if (type == short.class) {
+            visitor.visitInsn(Opcodes.I2S);
+        } else if (type == char.class) {
+            visitor.visitInsn(Opcodes.I2C);
+        } else if (type == boolean.class) {
+            visitor.visitInsn(Opcodes.ICONST_1);
+            visitor.visitInsn(Opcodes.IAND);
+        }
+    }
+
+    private static MethodVisitor openBulk(ClassWriter writer, Method method, String target) {
+        var visitor = visitMethod(writer, method);
+        visitor.visitCode();
+        // Cast object once
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitTypeInsn(Opcodes.CHECKCAST, target);
+        visitor.visitVarInsn(Opcodes.ASTORE, OBJECT);
+        return visitor;
+    }
+
+    private static void closeBulk(MethodVisitor visitor) {
+        visitor.visitInsn(Opcodes.RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void createSnapshot(ClassWriter writer, Class<?> clazz, List<Field> fields) {
+        var visitor = openBulk(writer, SNAPSHOT, Type.getInternalName(clazz));
+        for (var i = 0; i < fields.size(); ++i) {
+            var field = fields.get(i);
+            var type = field.getType();
+            visitor.visitVarInsn(Opcodes.ALOAD, 2);
+            AsmUtil.pushInt(visitor, i);
+            visitor.visitVarInsn(Opcodes.ALOAD, OBJECT);
+            visitor.visitFieldInsn(Opcodes.GETFIELD, getOwner(clazz, field), field.getName(), Type.getDescriptor(type));
+            AsmUtil.packPrimitive(visitor, type);
+            visitor.visitInsn(Opcodes.AASTORE);
+        }
+        closeBulk(visitor);
+    }
+
+    private static void createRestore(ClassWriter writer, Class<?> clazz, List<Field> fields) {
+        var visitor = openBulk(writer, RESTORE, Type.getInternalName(clazz));
+        for (var i = 0; i < fields.size(); ++i) {
+            var field = fields.get(i);
+            if (Modifier.isFinal(field.getModifiers())) {
+                continue;
+            }
+            var type = field.getType();
+            visitor.visitVarInsn(Opcodes.ALOAD, OBJECT);
+            visitor.visitVarInsn(Opcodes.ALOAD, 2);
+            AsmUtil.pushInt(visitor, i);
+            visitor.visitInsn(Opcodes.AALOAD);
+            AsmUtil.castReference(visitor, type);
+            visitor.visitFieldInsn(Opcodes.PUTFIELD, getOwner(clazz, field), field.getName(), Type.getDescriptor(type));
+        }
+        closeBulk(visitor);
+    }
+
+    private static void createSplitSnapshot(ClassWriter writer, Class<?> clazz, List<Field> fields) {
+        var visitor = openBulk(writer, SPLIT_SNAPSHOT, Type.getInternalName(clazz));
+        var primitive = 0;
+        var reference = 0;
+        for (var field : fields) {
+            var type = field.getType();
+            var isPrimitive = type.isPrimitive();
+            visitor.visitVarInsn(Opcodes.ALOAD, isPrimitive ? 2 : 3);
+            AsmUtil.pushInt(visitor, isPrimitive ? primitive++ : reference++);
+            visitor.visitVarInsn(Opcodes.ALOAD, OBJECT);
+            visitor.visitFieldInsn(Opcodes.GETFIELD, getOwner(clazz, field), field.getName(), Type.getDescriptor(type));
+            if (isPrimitive) {
+                toBits(visitor, type);
+                visitor.visitInsn(Opcodes.LASTORE);
+            } else {
+                visitor.visitInsn(Opcodes.AASTORE);
+            }
+        }
+        closeBulk(visitor);
+    }
+
+    private static void createSplitRestore(ClassWriter writer, Class<?> clazz, List<Field> fields) {
+        var visitor = openBulk(writer, SPLIT_RESTORE, Type.getInternalName(clazz));
+        var primitive = 0;
+        var reference = 0;
+        for (var field : fields) {
+            var type = field.getType();
+            var isPrimitive = type.isPrimitive();
+            // Indices are counted for final fields too, so they match the snapshot
+            var index = isPrimitive ? primitive++ : reference++;
+            if (Modifier.isFinal(field.getModifiers())) {
+                continue;
+            }
+            visitor.visitVarInsn(Opcodes.ALOAD, OBJECT);
+            visitor.visitVarInsn(Opcodes.ALOAD, isPrimitive ? 2 : 3);
+            AsmUtil.pushInt(visitor, index);
+            if (isPrimitive) {
+                visitor.visitInsn(Opcodes.LALOAD);
+                fromBits(visitor, type);
+            } else {
+                visitor.visitInsn(Opcodes.AALOAD);
+                AsmUtil.castReference(visitor, type);
+            }
+            visitor.visitFieldInsn(Opcodes.PUTFIELD, getOwner(clazz, field), field.getName(), Type.getDescriptor(type));
+        }
+        closeBulk(visitor);
+    }
+
+    static byte[] createAccessor(String name, Class<?> clazz, List<Field> fields) {
+        var target = Type.getInternalName(clazz);
+        var size = fields.size();
+        // Create accessor class, frames are required because of the switches
+        var writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        writer.visit(
+                Opcodes.V11,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
+                name.replace('.', '/'),
+                null,
+                AsmUtil.OBJECT.getInternalName(),
+                new String[]{Type.getInternalName(ACCESSOR)}
+        );
+        // Create empty constructor
+        AsmUtil.createEmptyConstructor(writer);
+        // Implement get method
+        createSwitch(visitMethod(writer, GET), 2, size, (visitor, i) -> {
+            var field = fields.get(i);
+            // Load object
+            visitor.visitVarInsn(Opcodes.ALOAD, 1);
+            visitor.visitTypeInsn(Opcodes.CHECKCAST, target);
+            // Load field value
+            visitor.visitFieldInsn(Opcodes.GETFIELD, getOwner(clazz, field), field.getName(), Type.getDescriptor(field.getType()));
+            // Pack primitive
+            AsmUtil.packPrimitive(visitor, field.getType());
+            visitor.visitInsn(Opcodes.ARETURN);
+        });
+        // Implement set method
+        createSwitch(visitMethod(writer, SET), 2, size, (visitor, i) -> {
+            var field = fields.get(i);
+            if (Modifier.isFinal(field.getModifiers())) {
+                throwException(visitor, UNSUPPORTED_EXCEPTION, -1);
+                return;
+            }
+            // Load object
+            visitor.visitVarInsn(Opcodes.ALOAD, 1);
+            visitor.visitTypeInsn(Opcodes.CHECKCAST, target);
+            // Load and cast value
+            visitor.visitVarInsn(Opcodes.ALOAD, 3);
+            AsmUtil.castReference(visitor, field.getType());
+            // Set value to field
+            visitor.visitFieldInsn(Opcodes.PUTFIELD, getOwner(clazz, field), field.getName(), Type.getDescriptor(field.getType()));
+            visitor.visitInsn(Opcodes.RETURN);
+        });
+        // Implement name lookup
+        var names = new ArrayList<String>(size);
+        for (var field : fields) {
+            names.add(field.getName());
+        }
+        NameIndexUtil.createIndexOf(visitMethod(writer, INDEX_OF), names);
+        createSwitch(visitMethod(writer, GET_NAME), 1, size, (visitor, i) -> {
+            visitor.visitLdcInsn(names.get(i));
+            visitor.visitInsn(Opcodes.ARETURN);
+        });
+        // Implement counters
+        var primitives = 0;
+        for (var field : fields) {
+            if (field.getType().isPrimitive()) {
+                ++primitives;
+            }
+        }
+        createConstant(writer, SIZE, size);
+        createConstant(writer, PRIMITIVE_COUNT, primitives);
+        createConstant(writer, REFERENCE_COUNT, size - primitives);
+        // Implement bulk methods
+        createSnapshot(writer, clazz, fields);
+        createRestore(writer, clazz, fields);
+        createSplitSnapshot(writer, clazz, fields);
+        createSplitRestore(writer, clazz, fields);
+        // Close writer
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.romanqed.jeflect.field;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>A class representing an interface for extracting the value of a single field from many objects
+ * into an array.</p>
+ * <p>The target array must be an array of the field type for primitive fields (e.g. {@code double[]}
+ * for a {@code double} field), or an array of a compatible reference type for reference fields.
+ * Values are copied in a generated loop, without packing and without an interface call per object.</p>
+ */
+public interface ColumnExtractor {
+
+    /**
+     * Copies the field values of the objects in the specified range into the target array.
+     *
+     * @param source the array of objects declaring the field
+     * @param from   the index of the first object, inclusive
+     * @param to     the index of the last object, exclusive
+     * @param target the array to copy values into
+     * @param offset the index in the target array for the value of the first object
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of either array
+     * @throws ClassCastException        if the target array has an incompatible type
+     */
+    void extract(Object[] source, int from, int to, Object target, int offset);
+
+    /**
+     * Copies the field values of the objects in the specified range of the list into the target array.
+     * Objects are obtained by {@link List#get(int)}, so the list should support fast random access.
+     *
+     * @param source the list of objects declaring the field
+     * @param from   the index of the first object, inclusive
+     * @param to     the index of the last object, exclusive
+     * @param target the array to copy values into
+     * @param offset the index in the target array for the value of the first object
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of either the list or the array
+     * @throws ClassCastException        if the target array has an incompatible type
+     */
+    void extract(List<?> source, int from, int to, Object target, int offset);
+
+    /**
+     * Copies the field values of all specified objects into the beginning of the target array.
+     *
+     * @param source the array of objects declaring the field
+     * @param target the array to copy values into
+     */
+    default void extract(Object[] source, Object target) {
+        extract(source, 0, source.length, target, 0);
+    }
+
+    /**
+     * Copies the field values of all objects in the specified list into the beginning of the target array.
+     * Lists implementing {@link RandomAccess} are read by index without copying,
+     * other lists are copied into an array first.
+     *
+     * @param source the list of objects declaring the field
+     * @param target the array to copy values into
+     */
+    default void extract(List<?> source, Object target) {
+        if (source instanceof RandomAccess) {
+            extract(source, 0, source.size(), target, 0);
+        } else {
+            extract(source.toArray(), target);
+        }
+    }
+
+    /**
+     * Copies the field values of all specified objects into the beginning of the target array,
+     * splitting the work into chunks executed in the specified pool.
+     *
+     * @param source    the array of objects declaring the field
+     * @param target    the array to copy values into
+     * @param pool      the pool to execute chunks in
+     * @param threshold the maximum number of objects processed by a single chunk
+     * @throws IllegalArgumentException if {@code threshold} is not positive
+     */
+    default void extract(Object[] source, Object target, ForkJoinPool pool, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        pool.invoke(new ColumnTask(this, source, 0, source.length, target, threshold));
+    }
+}
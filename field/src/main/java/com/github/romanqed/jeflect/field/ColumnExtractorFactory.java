@@ -0,0 +1,19 @@
+package com.github.romanqed.jeflect.field;
+
+import java.lang.reflect.Field;
+
+/**
+ * <p>An interface describing a factory that creates
+ * {@link ColumnExtractor} instances for subsequent extraction of a field from many objects.</p>
+ */
+public interface ColumnExtractorFactory {
+
+    /**
+     * Creates a proxy implementation of the {@link ColumnExtractor} interface for the specified field.
+     *
+     * @param field the target virtual field
+     * @return object of the generated proxy class implementing the {@link ColumnExtractor} interface
+     * @throws IllegalArgumentException if the field is static
+     */
+    ColumnExtractor packColumn(Field field);
+}
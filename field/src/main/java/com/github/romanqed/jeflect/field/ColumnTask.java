@@ -0,0 +1,36 @@
+package com.github.romanqed.jeflect.field;
+
+import java.util.concurrent.RecursiveAction;
+
+final class ColumnTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final transient ColumnExtractor extractor;
+    private final transient Object[] source;
+    private final int from;
+    private final int to;
+    private final transient Object target;
+    private final int threshold;
+
+    ColumnTask(ColumnExtractor extractor, Object[] source, int from, int to, Object target, int threshold) {
+        this.extractor = extractor;
+        this.source = source;
+        this.from = from;
+        this.to = to;
+        this.target = target;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            // Values are placed at the same indices as the objects
+            extractor.extract(source, from, to, target, from);
+            return;
+        }
+        var middle = (from + to) >>> 1;
+        invokeAll(
+                new ColumnTask(extractor, source, from, middle, target, threshold),
+                new ColumnTask(extractor, source, middle, to, target, threshold)
+        );
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jfunc.Exceptions;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+
+final class ColumnUtil {
+    private static final Class<ColumnExtractor> EXTRACTOR = ColumnExtractor.class;
+    private static final Method EXTRACT = Exceptions.silent(() -> EXTRACTOR.getDeclaredMethod(
+            "extract", Object[].class, int.class, int.class, Object.class, int.class
+    ));
+    private static final Method EXTRACT_LIST = Exceptions.silent(() -> EXTRACTOR.getDeclaredMethod(
+            "extract", List.class, int.class, int.class, Object.class, int.class
+    ));
+    private static final String OBJECTS = Type.getInternalName(Objects.class);
+    private static final String LIST = Type.getInternalName(List.class);
+    // Parameters
+    private static final int SOURCE = 1;
+    private static final int FROM = 2;
+    private static final int TO = 3;
+    private static final int TARGET = 4;
+    private static final int OFFSET = 5;
+    // Local variables
+    private static final int ARRAY = 6;
+    private static final int INDEX = 7;
+    private static final int POSITION = 8;
+
+    private ColumnUtil() {
+    }
+
+    private static void createExtract(ClassWriter writer,
+                                      Method method,
+                                      String owner,
+                                      String field,
+                                      Type type,
+                                      Type array,
+                                      boolean list) {
+        var visitor = writer.visitMethod(
+                Opcodes.ACC_PUBLIC,
+                method.getName(),
+                Type.getMethodDescriptor(method),
+                null,
+                null
+        );
+        visitor.visitCode();
+        // Cast target array
+        visitor.visitVarInsn(Opcodes.ALOAD, TARGET);
+        visitor.visitTypeInsn(Opcodes.CHECKCAST, array.getInternalName());
+        visitor.visitVarInsn(Opcodes.ASTORE, ARRAY);
+        // Check source range
+        visitor.visitVarInsn(Opcodes.ILOAD, FROM);
+        visitor.visitVarInsn(Opcodes.ILOAD, TO);
+        visitor.visitVarInsn(Opcodes.ALOAD, SOURCE);
+        if (list) {
+            visitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, LIST, "size", "()I", true);
+        } else {
+            visitor.visitInsn(Opcodes.ARRAYLENGTH);
+        }
+        visitor.visitMethodInsn(Opcodes.INVOKESTATIC, OBJECTS, "checkFromToIndex", "(III)I", false);
+        visitor.visitInsn(Opcodes.POP);
+        // Check target range
+        visitor.visitVarInsn(Opcodes.ILOAD, OFFSET);
+        visitor.visitVarInsn(Opcodes.ILOAD, TO);
+        visitor.visitVarInsn(Opcodes.ILOAD, FROM);
+        visitor.visitInsn(Opcodes.ISUB);
+        visitor.visitVarInsn(Opcodes.ALOAD, ARRAY);
+        visitor.visitInsn(Opcodes.ARRAYLENGTH);
+        visitor.visitMethodInsn(Opcodes.INVOKESTATIC, OBJECTS, "checkFromIndexSize", "(III)I", false);
+        visitor.visitInsn(Opcodes.POP);
+        // Init counters
+        visitor.visitVarInsn(Opcodes.ILOAD, FROM);
+        visitor.visitVarInsn(Opcodes.ISTORE, INDEX);
+        visitor.visitVarInsn(Opcodes.ILOAD, OFFSET);
+        visitor.visitVarInsn(Opcodes.ISTORE, POSITION);
+        var loop = new Label();
+        var end = new Label();
+        visitor.visitLabel(loop);
+        visitor.visitVarInsn(Opcodes.ILOAD, INDEX);
+        visitor.visitVarInsn(Opcodes.ILOAD, TO);
+        visitor.visitJumpInsn(Opcodes.IF_ICMPGE, end);
+        // array[position] = ((Owner) source[index]).field or ((Owner) source.get(index)).field
+        visitor.visitVarInsn(Opcodes.ALOAD, ARRAY);
+        visitor.visitVarInsn(Opcodes.ILOAD, POSITION);
+        visitor.visitVarInsn(Opcodes.ALOAD, SOURCE);
+        visitor.visitVarInsn(Opcodes.ILOAD, INDEX);
+        if (list) {
+            visitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, LIST, "get", "(I)Ljava/lang/Object;", true);
+        } else {
+            visitor.visitInsn(Opcodes.AALOAD);
+        }
+        visitor.visitTypeInsn(Opcodes.CHECKCAST, owner);
+        visitor.visitFieldInsn(Opcodes.GETFIELD, owner, field, type.getDescriptor());
+        visitor.visitInsn(type.getOpcode(Opcodes.IASTORE));
+        visitor.visitIincInsn(INDEX, 1);
+        visitor.visitIincInsn(POSITION, 1);
+        visitor.visitJumpInsn(Opcodes.GOTO, loop);
+        visitor.visitLabel(end);
+        visitor.visitInsn(Opcodes.RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    static byte[] createExtractor(String name, Field field) {
+        var owner = Type.getInternalName(field.getDeclaringClass());
+        var type = Type.getType(field.getType());
+        // Reference values are stored into any compatible array, checked by aastore
+        var array = field.getType().isPrimitive() ?
+                Type.getType("[" + type.getDescriptor())
+                : Type.getType(Object[].class);
+        // Create extractor class, frames are required because of the loop
+        var writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        writer.visit(
+                Opcodes.V11,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
+                name.replace('.', '/'),
+                null,
+                AsmUtil.OBJECT.getInternalName(),
+                new String[]{Type.getInternalName(EXTRACTOR)}
+        );
+        // Create empty constructor
+        AsmUtil.createEmptyConstructor(writer);
+        // Implement extract methods
+        createExtract(writer, EXTRACT, owner, field.getName(), type, array, false);
+        createExtract(writer, EXTRACT_LIST, owner, field.getName(), type, array, true);
+        // Close writer
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.romanqed.jeflect.field;
+
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>An interface describing a factory that creates
+ * {@link Equalizer}, {@link Hasher} and {@link Comparator} instances working on an ordered list of fields.</p>
+ */
+public interface ComparisonFactory {
+
+    /**
+     * Creates a proxy implementation of the {@link Equalizer} interface comparing the specified fields.
+     *
+     * @param clazz  the class of compared objects
+     * @param fields the compared fields in the order of comparison
+     * @param <T>    the type of compared objects
+     * @return object of the generated proxy class implementing the {@link Equalizer} interface
+     * @throws IllegalArgumentException if any of the fields cannot be read from the class
+     */
+    <T> Equalizer<T> packEqualizer(Class<T> clazz, List<Field> fields);
+
+    /**
+     * Creates a proxy implementation of the {@link Hasher} interface hashing the specified fields.
+     *
+     * @param clazz  the class of hashed objects
+     * @param fields the hashed fields
+     * @param <T>    the type of hashed objects
+     * @return object of the generated proxy class implementing the {@link Hasher} interface
+     * @throws IllegalArgumentException if any of the fields cannot be read from the class
+     */
+    <T> Hasher<T> packHasher(Class<T> clazz, List<Field> fields);
+
+    /**
+     * Creates a proxy implementation of the {@link Comparator} interface ordering by the specified fields.
+     * Primitive fields are compared as by the {@code compare} method of their wrappers,
+     * reference fields must be {@link Comparable} and are compared with {@link Comparable#compareTo(Object)}.
+     * The first non-equal field determines the order, so the remaining fields are not read.
+     *
+     * @param clazz  the class of compared objects
+     * @param fields the compared fields in the order of priority
+     * @param <T>    the type of compared objects
+     * @return object of the generated proxy class implementing the {@link Comparator} interface
+     * @throws IllegalArgumentException if any of the fields cannot be read from the class or is not comparable
+     */
+    <T> Comparator<T> packComparator(Class<T> clazz, List<Field> fields);
+}
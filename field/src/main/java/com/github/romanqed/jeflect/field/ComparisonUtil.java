@@ -0,0 +1,211 @@
+package com.github.romanqed.jeflect.field;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+final class ComparisonUtil {
+    private static final String OBJECTS = Type.getInternalName(Objects.class);
+    private static final String COMPARABLE = Type.getInternalName(Comparable.class);
+    private static final String EQUALS_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)Z";
+    private static final String HASH_DESCRIPTOR = "(Ljava/lang/Object;)I";
+    private static final String COMPARE_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)I";
+    // Same multiplier as in Arrays.hashCode(Object[])
+    private static final int MULTIPLIER = 31;
+    // Local variables
+    private static final int FIRST = 3;
+    private static final int SECOND = 4;
+
+    private ComparisonUtil() {
+    }
+
+    static void checkFields(Class<?> clazz, List<Field> fields, boolean comparable) {
+        if (!Modifier.isPublic(clazz.getModifiers())) {
+            throw new IllegalArgumentException("Cannot compare objects of non-public " + clazz);
+        }
+        for (var field : fields) {
+            var modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers)) {
+                throw new IllegalArgumentException("Cannot compare static or non-public field " + field);
+            }
+            if (!field.getDeclaringClass().isAssignableFrom(clazz)) {
+                throw new IllegalArgumentException("Field " + field + " is not a member of " + clazz);
+            }
+            // Fail early if the field cannot be accessed
+            ClassAccessorUtil.getOwner(clazz, field);
+            var type = field.getType();
+            if (comparable && !type.isPrimitive() && !Comparable.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException("Cannot order by non-comparable field " + field);
+            }
+        }
+    }
+
+    private static ClassWriter createWriter(String name, Class<?> type) {
+        // Frames are required because of the short-circuit branches
+        var writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        writer.visit(
+                Opcodes.V11,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
+                name.replace('.', '/'),
+                null,
+                AsmUtil.OBJECT.getInternalName(),
+                new String[]{Type.getInternalName(type)}
+        );
+        AsmUtil.createEmptyConstructor(writer);
+        return writer;
+    }
+
+    private static void loadField(MethodVisitor visitor, Class<?> clazz, Field field, int local) {
+        visitor.visitVarInsn(Opcodes.ALOAD, local);
+        visitor.visitFieldInsn(
+                Opcodes.GETFIELD,
+                ClassAccessorUtil.getOwner(clazz, field),
+                field.getName(),
+                Type.getDescriptor(field.getType())
+        );
+    }
+
+    private static void castArguments(MethodVisitor visitor, Class<?> clazz) {
+        var owner = Type.getInternalName(clazz);
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitTypeInsn(Opcodes.CHECKCAST, owner);
+        visitor.visitVarInsn(Opcodes.ASTORE, FIRST);
+        visitor.visitVarInsn(Opcodes.ALOAD, 2);
+        visitor.visitTypeInsn(Opcodes.CHECKCAST, owner);
+        visitor.visitVarInsn(Opcodes.ASTORE, SECOND);
+    }
+
+    private static void invokeStatic(MethodVisitor visitor, Class<?> owner, String name, String descriptor) {
+        visitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(owner), name, descriptor, false);
+    }
+
+    private static void compareValues(MethodVisitor visitor, Class<?> type) {
+        // Compare primitives with the static methods of their wrappers, so no values are packed
+        if (type.isPrimitive()) {
+            var descriptor = Type.getDescriptor(type);
+            invokeStatic(visitor, AsmUtil.PRIMITIVES.get(type), "compare", "(" + descriptor + descriptor + ")I");
+            return;
+        }
+        visitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, COMPARABLE, "compareTo", "(Ljava/lang/Object;)I", true);
+    }
+
+    static byte[] createEqualizer(String name, Class<?> clazz, List<Field> fields) {
+        var writer = createWriter(name, Equalizer.class);
+        var visitor = writer.visitMethod(Opcodes.ACC_PUBLIC, "equals", EQUALS_DESCRIPTOR, null, null);
+        visitor.visitCode();
+        var success = new Label();
+        var fail = new Label();
+        // Same references, including both nulls, are equal
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitVarInsn(Opcodes.ALOAD, 2);
+        visitor.visitJumpInsn(Opcodes.IF_ACMPEQ, success);
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitJumpInsn(Opcodes.IFNULL, fail);
+        visitor.visitVarInsn(Opcodes.ALOAD, 2);
+        visitor.visitJumpInsn(Opcodes.IFNULL, fail);
+        castArguments(visitor, clazz);
+        for (var field : fields) {
+            var type = field.getType();
+            loadField(visitor, clazz, field, FIRST);
+            loadField(visitor, clazz, field, SECOND);
+            if (!type.isPrimitive()) {
+                invokeStatic(visitor, Objects.class, "equals", EQUALS_DESCRIPTOR);
+                visitor.visitJumpInsn(Opcodes.IFEQ, fail);
+            } else if (type == long.class) {
+                visitor.visitInsn(Opcodes.LCMP);
+                visitor.visitJumpInsn(Opcodes.IFNE, fail);
+            } else if (type == float.class || type == double.class) {
+                // Floating values are compared like in their wrappers, so NaN equals NaN
+                compareValues(visitor, type);
+                visitor.visitJumpInsn(Opcodes.IFNE, fail);
+            } else {
+                visitor.visitJumpInsn(Opcodes.IF_ICMPNE, fail);
+            }
+        }
+        visitor.visitLabel(success);
+        visitor.visitInsn(Opcodes.ICONST_1);
+        visitor.visitInsn(Opcodes.IRETURN);
+        visitor.visitLabel(fail);
+        visitor.visitInsn(Opcodes.ICONST_0);
+        visitor.visitInsn(Opcodes.IRETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    static byte[] createHasher(String name, Class<?> clazz, List<Field> fields) {
+        var writer = createWriter(name, Hasher.class);
+        var visitor = writer.visitMethod(Opcodes.ACC_PUBLIC, "hash", HASH_DESCRIPTOR, null, null);
+        visitor.visitCode();
+        var nonNull = new Label();
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitJumpInsn(Opcodes.IFNONNULL, nonNull);
+        visitor.visitInsn(Opcodes.ICONST_0);
+        visitor.visitInsn(Opcodes.IRETURN);
+        visitor.visitLabel(nonNull);
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(clazz));
+        visitor.visitVarInsn(Opcodes.ASTORE, 2);
+        // result = 31 * result + hash(field), starting from 1
+        visitor.visitInsn(Opcodes.ICONST_1);
+        for (var field : fields) {
+            var type = field.getType();
+            AsmUtil.pushInt(visitor, MULTIPLIER);
+            visitor.visitInsn(Opcodes.IMUL);
+            loadField(visitor, clazz, field, 2);
+            if (type.isPrimitive()) {
+                var descriptor = "(" + Type.getDescriptor(type) + ")I";
+                invokeStatic(visitor, AsmUtil.PRIMITIVES.get(type), "hashCode", descriptor);
+            } else {
+                invokeStatic(visitor, Objects.class, "hashCode", HASH_DESCRIPTOR);
+            }
+            visitor.visitInsn(Opcodes.IADD);
+        }
+        visitor.visitInsn(Opcodes.IRETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    static byte[] createComparator(String name, Class<?> clazz, List<Field> fields) {
+        var writer = createWriter(name, Comparator.class);
+        var visitor = writer.visitMethod(Opcodes.ACC_PUBLIC, "compare", COMPARE_DESCRIPTOR, null, null);
+        visitor.visitCode();
+        castArguments(visitor, clazz);
+        var count = fields.size();
+        for (var i = 0; i < count; ++i) {
+            var field = fields.get(i);
+            loadField(visitor, clazz, field, FIRST);
+            loadField(visitor, clazz, field, SECOND);
+            compareValues(visitor, field.getType());
+            // The last field result is returned as is
+            if (i == count - 1) {
+                break;
+            }
+            var next = new Label();
+            visitor.visitInsn(Opcodes.DUP);
+            visitor.visitJumpInsn(Opcodes.IFEQ, next);
+            visitor.visitInsn(Opcodes.IRETURN);
+            visitor.visitLabel(next);
+            visitor.visitInsn(Opcodes.POP);
+        }
+        if (count == 0) {
+            visitor.visitInsn(Opcodes.ICONST_0);
+        }
+        visitor.visitInsn(Opcodes.IRETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
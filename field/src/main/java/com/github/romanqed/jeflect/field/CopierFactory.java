@@ -0,0 +1,18 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>An interface describing a factory that creates
+ * {@link ObjectCopier} instances for subsequent copying of objects.</p>
+ */
+public interface CopierFactory {
+
+    /**
+     * Creates a proxy implementation of the {@link ObjectCopier} interface for the specified class.
+     *
+     * @param clazz the target class
+     * @param <T>   the type of copied objects
+     * @return object of the generated proxy class implementing the {@link ObjectCopier} interface
+     * @throws IllegalArgumentException if the class cannot be copied
+     */
+    <T> ObjectCopier<T> packCopier(Class<T> clazz);
+}
@@ -0,0 +1,302 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jfunc.Exceptions;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.function.Function;
+
+final class CopierUtil {
+    private static final Class<ObjectCopier> COPIER = ObjectCopier.class;
+    private static final Method COPY = Exceptions.silent(() -> COPIER.getDeclaredMethod("copy", Object.class));
+    private static final String FUNCTION = Type.getInternalName(Function.class);
+    private static final String FUNCTION_DESCRIPTOR = Type.getDescriptor(Function.class);
+    private static final String APPLY_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String DEEP = "deep";
+    // Types whose instances cannot be changed, so they are never copied
+    private static final Set<Class<?>> IMMUTABLES = Set.of(
+            String.class,
+            Boolean.class,
+            Character.class,
+            Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class,
+            Class.class,
+            BigInteger.class,
+            BigDecimal.class,
+            UUID.class,
+            Instant.class,
+            Duration.class,
+            Period.class,
+            LocalDate.class,
+            LocalTime.class,
+            LocalDateTime.class,
+            OffsetTime.class,
+            OffsetDateTime.class,
+            ZonedDateTime.class,
+            Year.class,
+            YearMonth.class,
+            MonthDay.class
+    );
+    // Local variables
+    private static final int SOURCE = 2;
+    private static final int TARGET = 3;
+
+    private CopierUtil() {
+    }
+
+    static boolean isImmutable(Class<?> clazz) {
+        return clazz.isPrimitive()
+                || IMMUTABLES.contains(clazz)
+                || Enum.class.isAssignableFrom(clazz)
+                || ZoneId.class.isAssignableFrom(clazz);
+    }
+
+    private static boolean isImmutableType(Class<?> type) {
+        // Non-final immutable classes, such as BigInteger, may have mutable subclasses,
+        // so their values are checked at runtime
+        if (IMMUTABLES.contains(type)) {
+            return Modifier.isFinal(type.getModifiers());
+        }
+        return isImmutable(type);
+    }
+
+    private static Constructor<?> findConstructor(Class<?> clazz, Class<?>... parameters) {
+        try {
+            var ret = clazz.getConstructor(parameters);
+            return Modifier.isPublic(ret.getModifiers()) ? ret : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Object newInstance(Class<?> clazz, boolean ordered, Object comparator, int size) {
+        if (!Modifier.isPublic(clazz.getModifiers())) {
+            return null;
+        }
+        if (!ordered) {
+            var constructor = findConstructor(clazz);
+            return constructor == null ? null : Exceptions.silent(() -> constructor.newInstance());
+        }
+        // Ordered collections keep their ordering
+        var constructor = findConstructor(clazz, Comparator.class);
+        if (constructor != null) {
+            return Exceptions.silent(() -> constructor.newInstance(comparator));
+        }
+        var sized = findConstructor(clazz, int.class, Comparator.class);
+        if (sized != null) {
+            return Exceptions.silent(() -> sized.newInstance(Math.max(1, size), comparator));
+        }
+        return null;
+    }
+
+    private static boolean isOrdered(Collection<?> collection) {
+        return collection instanceof SortedSet
+                || collection instanceof PriorityQueue
+                || collection instanceof PriorityBlockingQueue;
+    }
+
+    private static Comparator<?> getComparator(Collection<?> collection) {
+        if (collection instanceof SortedSet) {
+            return ((SortedSet<?>) collection).comparator();
+        }
+        if (collection instanceof PriorityQueue) {
+            return ((PriorityQueue<?>) collection).comparator();
+        }
+        if (collection instanceof PriorityBlockingQueue) {
+            return ((PriorityBlockingQueue<?>) collection).comparator();
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object copyCollection(Collection<?> source, Function<Object, Object> copier) {
+        if (source instanceof EnumSet) {
+            // Enums are immutable
+            return ((EnumSet) source).clone();
+        }
+        var clazz = source.getClass();
+        var ret = (Collection<Object>) newInstance(clazz, isOrdered(source), getComparator(source), source.size());
+        if (ret == null) {
+            ret = source instanceof Set ? new LinkedHashSet<>(source.size()) : new ArrayList<>(source.size());
+        }
+        for (var element : source) {
+            ret.add(copier.apply(element));
+        }
+        if (ret.getClass() == clazz) {
+            return ret;
+        }
+        // Collections of non-public classes are mostly immutable collections and views
+        if (source instanceof List) {
+            return Collections.unmodifiableList((List<Object>) ret);
+        }
+        if (source instanceof Set) {
+            return Collections.unmodifiableSet((Set<Object>) ret);
+        }
+        return Collections.unmodifiableCollection(ret);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object copyMap(Map<?, ?> source, Function<Object, Object> copier) {
+        if (source instanceof EnumMap) {
+            // Keys are enums, so only values are copied
+            var ret = new EnumMap((EnumMap) source);
+            for (var entry : (Set<Map.Entry<Object, Object>>) ret.entrySet()) {
+                entry.setValue(copier.apply(entry.getValue()));
+            }
+            return ret;
+        }
+        var clazz = source.getClass();
+        var sorted = source instanceof SortedMap;
+        var comparator = sorted ? ((SortedMap<?, ?>) source).comparator() : null;
+        var ret = (Map<Object, Object>) newInstance(clazz, sorted, comparator, source.size());
+        if (ret == null) {
+            ret = new LinkedHashMap<>();
+        }
+        for (var entry : source.entrySet()) {
+            ret.put(copier.apply(entry.getKey()), copier.apply(entry.getValue()));
+        }
+        if (ret.getClass() == clazz) {
+            return ret;
+        }
+        // Maps of non-public classes are mostly immutable maps and views
+        return Collections.unmodifiableMap(ret);
+    }
+
+    static List<Field> getFields(Class<?> clazz, boolean skipTransient) {
+        if (!Modifier.isPublic(clazz.getModifiers()) || Modifier.isAbstract(clazz.getModifiers())) {
+            throw new IllegalArgumentException("Cannot copy non-public or abstract " + clazz);
+        }
+        try {
+            var constructor = clazz.getDeclaredConstructor();
+            if (!Modifier.isPublic(constructor.getModifiers())) {
+                throw new IllegalArgumentException("Cannot copy " + clazz + " without public no-arg constructor");
+            }
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Cannot copy " + clazz + " without public no-arg constructor", e);
+        }
+        // Collect the hierarchy, so superclass fields go first
+        var hierarchy = new ArrayList<Class<?>>();
+        for (var current = clazz; current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(current);
+        }
+        Collections.reverse(hierarchy);
+        var ret = new ArrayList<Field>();
+        for (var current : hierarchy) {
+            for (var field : current.getDeclaredFields()) {
+                var modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+                    continue;
+                }
+                if (skipTransient && Modifier.isTransient(modifiers)) {
+                    continue;
+                }
+                // Silently skipping the field would produce an incomplete copy
+                if (!Modifier.isPublic(modifiers)) {
+                    throw new IllegalArgumentException("Cannot copy non-public field " + field);
+                }
+                // Fail early if the field cannot be accessed
+                ClassAccessorUtil.getOwner(clazz, field);
+                ret.add(field);
+            }
+        }
+        return ret;
+    }
+
+    static byte[] createCopier(String name, Class<?> clazz, List<Field> fields, boolean deep) {
+        var internal = name.replace('.', '/');
+        var owner = Type.getInternalName(clazz);
+        // Create copier class, frames are required because of the null check
+        var writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        writer.visit(
+                Opcodes.V11,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
+                internal,
+                null,
+                AsmUtil.OBJECT.getInternalName(),
+                new String[]{Type.getInternalName(COPIER)}
+        );
+        // Create field and constructor accepting the function copying nested objects
+        writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, DEEP, FUNCTION_DESCRIPTOR, null, null).visitEnd();
+        var init = writer.visitMethod(Opcodes.ACC_PUBLIC, AsmUtil.INIT, "(" + FUNCTION_DESCRIPTOR + ")V", null, null);
+        init.visitCode();
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitMethodInsn(Opcodes.INVOKESPECIAL,
+                AsmUtil.OBJECT.getInternalName(),
+                AsmUtil.INIT,
+                AsmUtil.EMPTY_DESCRIPTOR,
+                false);
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitVarInsn(Opcodes.ALOAD, 1);
+        init.visitFieldInsn(Opcodes.PUTFIELD, internal, DEEP, FUNCTION_DESCRIPTOR);
+        init.visitInsn(Opcodes.RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+        // Implement copy method
+        var visitor = writer.visitMethod(
+                Opcodes.ACC_PUBLIC,
+                COPY.getName(),
+                Type.getMethodDescriptor(COPY),
+                null,
+                null
+        );
+        visitor.visitCode();
+        // Null is copied as null
+        var notNull = new Label();
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitJumpInsn(Opcodes.IFNONNULL, notNull);
+        visitor.visitInsn(Opcodes.ACONST_NULL);
+        visitor.visitInsn(Opcodes.ARETURN);
+        visitor.visitLabel(notNull);
+        // Cast source
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitTypeInsn(Opcodes.CHECKCAST, owner);
+        visitor.visitVarInsn(Opcodes.ASTORE, SOURCE);
+        // Allocate target
+        visitor.visitTypeInsn(Opcodes.NEW, owner);
+        visitor.visitInsn(Opcodes.DUP);
+        visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, owner, AsmUtil.INIT, AsmUtil.EMPTY_DESCRIPTOR, false);
+        visitor.visitVarInsn(Opcodes.ASTORE, TARGET);
+        // Copy fields
+        for (var field : fields) {
+            var type = field.getType();
+            var descriptor = Type.getDescriptor(type);
+            var fieldOwner = ClassAccessorUtil.getOwner(clazz, field);
+            visitor.visitVarInsn(Opcodes.ALOAD, TARGET);
+            var isDeep = deep && !isImmutableType(type);
+            if (isDeep) {
+                visitor.visitVarInsn(Opcodes.ALOAD, 0);
+                visitor.visitFieldInsn(Opcodes.GETFIELD, internal, DEEP, FUNCTION_DESCRIPTOR);
+            }
+            visitor.visitVarInsn(Opcodes.ALOAD, SOURCE);
+            visitor.visitFieldInsn(Opcodes.GETFIELD, fieldOwner, field.getName(), descriptor);
+            if (isDeep) {
+                // Copy nested object
+                visitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, FUNCTION, "apply", APPLY_DESCRIPTOR, true);
+                AsmUtil.castReference(visitor, type);
+            }
+            visitor.visitFieldInsn(Opcodes.PUTFIELD, fieldOwner, field.getName(), descriptor);
+        }
+        visitor.visitVarInsn(Opcodes.ALOAD, TARGET);
+        visitor.visitInsn(Opcodes.ARETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+        // Close writer
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
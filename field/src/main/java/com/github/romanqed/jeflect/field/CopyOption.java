@@ -0,0 +1,23 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>Options configuring the copiers created by {@link BytecodeCopierFactory}.</p>
+ */
+public enum CopyOption {
+    /**
+     * Reference fields are copied recursively: arrays are cloned element by element,
+     * collections and maps are copied into new instances of the same class with the same ordering,
+     * other objects are copied by the copiers of their runtime classes.
+     * Collections and maps of non-public classes, such as {@link java.util.List#of()} or
+     * {@link java.util.Arrays#asList(Object[])}, are copied into unmodifiable collections and maps.
+     * Strings, primitive wrappers, enums, classes, {@link java.math.BigInteger}, {@link java.math.BigDecimal},
+     * {@link java.util.UUID} and {@code java.time} values are immutable, so they are shared;
+     * subclasses of {@link java.math.BigInteger} and {@link java.math.BigDecimal} are copied as other objects.
+     * The copied object graph must not contain cycles.
+     */
+    DEEP,
+    /**
+     * Transient fields are not copied.
+     */
+    SKIP_TRANSIENT
+}
@@ -0,0 +1,21 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>A class representing an interface for comparing objects of a certain class for equality.</p>
+ * <p>Unlike {@link Object#equals(Object)}, the set of compared fields is chosen by the caller.</p>
+ *
+ * @param <T> the type of compared objects
+ */
+public interface Equalizer<T> {
+
+    /**
+     * Checks whether the specified objects are equal.
+     * Primitive fields are compared as by the {@code equals} method of their wrappers,
+     * reference fields are compared with {@link java.util.Objects#equals(Object, Object)}.
+     *
+     * @param first  the first object, may be {@code null}
+     * @param second the second object, may be {@code null}
+     * @return {@code true} if both objects are {@code null} or all compared fields are equal
+     */
+    boolean equals(T first, T second);
+}
@@ -7,6 +7,10 @@ package com.github.romanqed.jeflect.field;
  * <p>If the field is virtual, you can interact with it using
  * {@link FieldAccessor#get(Object)}, {@link FieldAccessor#set(Object, Object)}.</p>
  * <p>If the field is static - {@link FieldAccessor#get()}, {@link FieldAccessor#set(Object)}.</p>
+ * <p>Primitive values can be accessed without packing with typed methods, such as
+ * {@link FieldAccessor#getInt(Object)} or {@link FieldAccessor#setLong(Object, long)}.
+ * They follow the widening rules of {@link java.lang.reflect.Field}: for example, an {@code int} field
+ * can be read with {@code getLong} and assigned with {@code setShort}.</p>
  */
 public interface FieldAccessor {
 
@@ -53,4 +57,388 @@ public interface FieldAccessor {
     default void set(Object value) {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Gets the value of the virtual field as {@code boolean} without packing.
+     * Implemented if the field type can be converted to {@code boolean} by a widening conversion.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be read as {@code boolean}
+     */
+    default boolean getBoolean(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the static field as {@code boolean} without packing.
+     * Implemented if the field type can be converted to {@code boolean} by a widening conversion.
+     *
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not static or cannot be read as {@code boolean}
+     */
+    default boolean getBoolean() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code boolean} value of the virtual field without packing.
+     * Implemented if {@code boolean} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be assigned from {@code boolean}
+     */
+    default void setBoolean(Object object, boolean value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code boolean} value of the static field without packing.
+     * Implemented if {@code boolean} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not static or cannot be assigned from {@code boolean}
+     */
+    default void setBoolean(boolean value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the virtual field as {@code byte} without packing.
+     * Implemented if the field type can be converted to {@code byte} by a widening conversion.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be read as {@code byte}
+     */
+    default byte getByte(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the static field as {@code byte} without packing.
+     * Implemented if the field type can be converted to {@code byte} by a widening conversion.
+     *
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not static or cannot be read as {@code byte}
+     */
+    default byte getByte() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code byte} value of the virtual field without packing.
+     * Implemented if {@code byte} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be assigned from {@code byte}
+     */
+    default void setByte(Object object, byte value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code byte} value of the static field without packing.
+     * Implemented if {@code byte} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not static or cannot be assigned from {@code byte}
+     */
+    default void setByte(byte value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the virtual field as {@code char} without packing.
+     * Implemented if the field type can be converted to {@code char} by a widening conversion.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be read as {@code char}
+     */
+    default char getChar(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the static field as {@code char} without packing.
+     * Implemented if the field type can be converted to {@code char} by a widening conversion.
+     *
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not static or cannot be read as {@code char}
+     */
+    default char getChar() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code char} value of the virtual field without packing.
+     * Implemented if {@code char} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be assigned from {@code char}
+     */
+    default void setChar(Object object, char value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code char} value of the static field without packing.
+     * Implemented if {@code char} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not static or cannot be assigned from {@code char}
+     */
+    default void setChar(char value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the virtual field as {@code short} without packing.
+     * Implemented if the field type can be converted to {@code short} by a widening conversion.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be read as {@code short}
+     */
+    default short getShort(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the static field as {@code short} without packing.
+     * Implemented if the field type can be converted to {@code short} by a widening conversion.
+     *
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not static or cannot be read as {@code short}
+     */
+    default short getShort() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code short} value of the virtual field without packing.
+     * Implemented if {@code short} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be assigned from {@code short}
+     */
+    default void setShort(Object object, short value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code short} value of the static field without packing.
+     * Implemented if {@code short} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not static or cannot be assigned from {@code short}
+     */
+    default void setShort(short value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the virtual field as {@code int} without packing.
+     * Implemented if the field type can be converted to {@code int} by a widening conversion.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be read as {@code int}
+     */
+    default int getInt(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the static field as {@code int} without packing.
+     * Implemented if the field type can be converted to {@code int} by a widening conversion.
+     *
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not static or cannot be read as {@code int}
+     */
+    default int getInt() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code int} value of the virtual field without packing.
+     * Implemented if {@code int} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be assigned from {@code int}
+     */
+    default void setInt(Object object, int value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code int} value of the static field without packing.
+     * Implemented if {@code int} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not static or cannot be assigned from {@code int}
+     */
+    default void setInt(int value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the virtual field as {@code long} without packing.
+     * Implemented if the field type can be converted to {@code long} by a widening conversion.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be read as {@code long}
+     */
+    default long getLong(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the static field as {@code long} without packing.
+     * Implemented if the field type can be converted to {@code long} by a widening conversion.
+     *
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not static or cannot be read as {@code long}
+     */
+    default long getLong() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code long} value of the virtual field without packing.
+     * Implemented if {@code long} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be assigned from {@code long}
+     */
+    default void setLong(Object object, long value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code long} value of the static field without packing.
+     * Implemented if {@code long} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not static or cannot be assigned from {@code long}
+     */
+    default void setLong(long value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the virtual field as {@code float} without packing.
+     * Implemented if the field type can be converted to {@code float} by a widening conversion.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be read as {@code float}
+     */
+    default float getFloat(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the static field as {@code float} without packing.
+     * Implemented if the field type can be converted to {@code float} by a widening conversion.
+     *
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not static or cannot be read as {@code float}
+     */
+    default float getFloat() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code float} value of the virtual field without packing.
+     * Implemented if {@code float} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be assigned from {@code float}
+     */
+    default void setFloat(Object object, float value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code float} value of the static field without packing.
+     * Implemented if {@code float} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not static or cannot be assigned from {@code float}
+     */
+    default void setFloat(float value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the virtual field as {@code double} without packing.
+     * Implemented if the field type can be converted to {@code double} by a widening conversion.
+     *
+     * @param object instance of the class declaring the field
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be read as {@code double}
+     */
+    default double getDouble(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the value of the static field as {@code double} without packing.
+     * Implemented if the field type can be converted to {@code double} by a widening conversion.
+     *
+     * @return field value
+     * @throws UnsupportedOperationException if packed field is not static or cannot be read as {@code double}
+     */
+    default double getDouble() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code double} value of the virtual field without packing.
+     * Implemented if {@code double} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param object instance of the class declaring the field
+     * @param value  the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not virtual or cannot be assigned from {@code double}
+     */
+    default void setDouble(Object object, double value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the {@code double} value of the static field without packing.
+     * Implemented if {@code double} can be converted to the field type by a widening conversion
+     * and the field is not final.
+     *
+     * @param value the value to be assigned
+     * @throws UnsupportedOperationException if packed field is not static or cannot be assigned from {@code double}
+     */
+    default void setDouble(double value) {
+        throw new UnsupportedOperationException();
+    }
 }
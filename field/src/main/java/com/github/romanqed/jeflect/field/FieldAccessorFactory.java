@@ -1,6 +1,9 @@
 package com.github.romanqed.jeflect.field;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * <p>An interface describing a factory that creates
@@ -15,4 +18,18 @@ public interface FieldAccessorFactory {
      * @return object of the generated proxy class implementing the {@link FieldAccessor} interface
      */
     FieldAccessor packField(Field field);
+
+    /**
+     * Creates proxy implementations of the {@link FieldAccessor} interface for all specified fields.
+     *
+     * @param fields the target fields
+     * @return the list of proxies in the same order as the fields
+     */
+    default List<FieldAccessor> packFields(Collection<Field> fields) {
+        var ret = new ArrayList<FieldAccessor>(fields.size());
+        for (var field : fields) {
+            ret.add(packField(field));
+        }
+        return ret;
+    }
 }
@@ -9,6 +9,8 @@ import org.objectweb.asm.Type;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
 
 final class FieldUtil {
     private static final Class<FieldAccessor> ACCESSOR = FieldAccessor.class;
@@ -21,9 +23,159 @@ final class FieldUtil {
             () -> ACCESSOR.getDeclaredMethod("set", Object.class)
     );
 
+    // Primitive types in the order of typed accessor methods
+    static final List<Class<?>> PRIMITIVES = List.of(
+            boolean.class,
+            byte.class,
+            char.class,
+            short.class,
+            int.class,
+            long.class,
+            float.class,
+            double.class
+    );
+    // Types to which the primitive can be converted by a widening conversion, including itself
+    private static final Map<Class<?>, List<Class<?>>> WIDENINGS = Map.of(
+            boolean.class, List.of(boolean.class),
+            byte.class, List.of(byte.class, short.class, int.class, long.class, float.class, double.class),
+            char.class, List.of(char.class, int.class, long.class, float.class, double.class),
+            short.class, List.of(short.class, int.class, long.class, float.class, double.class),
+            int.class, List.of(int.class, long.class, float.class, double.class),
+            long.class, List.of(long.class, float.class, double.class),
+            float.class, List.of(float.class, double.class),
+            double.class, List.of(double.class)
+    );
+
     private FieldUtil() {
     }
 
+    static String getTypedName(String prefix, Class<?> primitive) {
+        var name = primitive.getName();
+        return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Method findTyped(String prefix, Class<?> primitive, boolean isStatic) {
+        var name = getTypedName(prefix, primitive);
+        var isGet = prefix.equals("get");
+        Class<?>[] parameters;
+        if (isStatic) {
+            parameters = isGet ? new Class<?>[0] : new Class<?>[]{primitive};
+        } else {
+            parameters = isGet ? new Class<?>[]{Object.class} : new Class<?>[]{Object.class, primitive};
+        }
+        return Exceptions.silent(() -> ACCESSOR.getDeclaredMethod(name, parameters));
+    }
+
+    static boolean isWidening(Class<?> from, Class<?> to) {
+        var widenings = WIDENINGS.get(from);
+        return widenings != null && widenings.contains(to);
+    }
+
+    static void widen(MethodVisitor visitor, Class<?> from, Class<?> to) {
+        // Sub-int types are already ints on the stack
+        var source = Type.getType(from).getOpcode(Opcodes.IRETURN);
+        var target = Type.getType(to).getOpcode(Opcodes.IRETURN);
+        if (source == target) {
+            return;
+        }
+        if (source == Opcodes.IRETURN) {
+            var opcode = target == Opcodes.LRETURN ? Opcodes.I2L : Opcodes.I2F;
+            visitor.visitInsn(target == Opcodes.DRETURN ? Opcodes.I2D : opcode);
+        } else if (source == Opcodes.LRETURN) {
+            visitor.visitInsn(target == Opcodes.FRETURN ? Opcodes.L2F : Opcodes.L2D);
+        } else {
+            visitor.visitInsn(Opcodes.F2D);
+        }
+    }
+
+    static void createGet(MethodVisitor visitor,
+                          Type owner,
+                          String name,
+                          Class<?> type,
+                          Class<?> target,
+                          boolean isStatic) {
+        // Open method
+        visitor.visitCode();
+        if (!isStatic) {
+            // Load object
+            visitor.visitVarInsn(Opcodes.ALOAD, 1);
+            // Cast to field owner
+            visitor.visitTypeInsn(Opcodes.CHECKCAST, owner.getInternalName());
+        }
+        // Load field value
+        visitor.visitFieldInsn(
+                isStatic ? Opcodes.GETSTATIC : Opcodes.GETFIELD,
+                owner.getInternalName(),
+                name,
+                Type.getDescriptor(type)
+        );
+        // Widen value to the requested type
+        widen(visitor, type, target);
+        // Return value
+        visitor.visitInsn(Type.getType(target).getOpcode(Opcodes.IRETURN));
+        // Close method
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    static void createSet(MethodVisitor visitor,
+                          Type owner,
+                          String name,
+                          Class<?> type,
+                          Class<?> source,
+                          boolean isStatic) {
+        // Open method
+        visitor.visitCode();
+        var index = 1;
+        if (!isStatic) {
+            // Load object
+            visitor.visitVarInsn(Opcodes.ALOAD, index++);
+            // Cast to field owner
+            visitor.visitTypeInsn(Opcodes.CHECKCAST, owner.getInternalName());
+        }
+        // Load primitive value from parameter
+        visitor.visitVarInsn(Type.getType(source).getOpcode(Opcodes.ILOAD), index);
+        // Widen value to the field type
+        widen(visitor, source, type);
+        // Set value to field
+        visitor.visitFieldInsn(
+                isStatic ? Opcodes.PUTSTATIC : Opcodes.PUTFIELD,
+                owner.getInternalName(),
+                name,
+                Type.getDescriptor(type)
+        );
+        // Return
+        visitor.visitInsn(Opcodes.RETURN);
+        // Close method
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static MethodVisitor visitMethod(ClassWriter writer, Method method) {
+        return writer.visitMethod(
+                Opcodes.ACC_PUBLIC,
+                method.getName(),
+                Type.getMethodDescriptor(method),
+                null,
+                null
+        );
+    }
+
+    private static void createTyped(ClassWriter writer, Field field, boolean isStatic, boolean isFinal) {
+        var owner = Type.getType(field.getDeclaringClass());
+        var type = field.getType();
+        for (var primitive : PRIMITIVES) {
+            if (isWidening(type, primitive)) {
+                var get = visitMethod(writer, findTyped("get", primitive, isStatic));
+                createGet(get, owner, field.getName(), type, primitive, isStatic);
+            }
+            if (!isFinal && isWidening(primitive, type)) {
+                var set = visitMethod(writer, findTyped("set", primitive, isStatic));
+                createSet(set, owner, field.getName(), type, primitive, isStatic);
+            }
+        }
+    }
+
     static void createGet(MethodVisitor visitor, Type owner, String name, Class<?> type, boolean isStatic) {
         // Open method
         visitor.visitCode();
@@ -83,7 +235,7 @@ final class FieldUtil {
         writer.visit(
                 Opcodes.V11,
                 Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
-                name,
+                name.replace('.', '/'),
                 null,
                 Type.getInternalName(Object.class),
                 new String[]{Type.getInternalName(ACCESSOR)}
@@ -105,8 +257,13 @@ final class FieldUtil {
                 null
         );
         createGet(get, owner, field.getName(), type, isStatic);
+        // Implement typed methods for primitive fields
+        var isFinal = Modifier.isFinal(modifiers);
+        if (type.isPrimitive()) {
+            createTyped(writer, field, isStatic, isFinal);
+        }
         // Check if field is final
-        if (Modifier.isFinal(modifiers)) {
+        if (isFinal) {
             // Close writer
             writer.visitEnd();
             return writer.toByteArray();
@@ -0,0 +1,18 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>A class representing an interface for calculating hash codes of objects of a certain class.</p>
+ *
+ * @param <T> the type of hashed objects
+ */
+public interface Hasher<T> {
+
+    /**
+     * Calculates the hash code of the specified object.
+     * The result is the same as {@link java.util.Objects#hash(Object...)} of the hashed field values.
+     *
+     * @param value the hashed object, may be {@code null}
+     * @return the hash code, or 0 if the object is {@code null}
+     */
+    int hash(T value);
+}
@@ -0,0 +1,35 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>A class representing an interface for resolving names to integer slots.</p>
+ * <p>Names are compiled into a {@code lookupswitch} over their hash codes followed by an equality check,
+ * so a lookup costs one cached {@link String#hashCode()} and usually one {@link String#equals(Object)} call.
+ * The resolved slot can be used with indexed accessors, such as {@link ClassAccessor}.</p>
+ */
+public interface NameIndex {
+
+    /**
+     * Finds the slot of the specified name.
+     * If the name occurs several times, the last slot is returned.
+     *
+     * @param name the name to be resolved
+     * @return the slot of the name, or -1 if there is no such name or the name is {@code null}
+     */
+    int indexOf(String name);
+
+    /**
+     * Returns the name with the specified slot.
+     *
+     * @param index the slot of the name
+     * @return the name
+     * @throws IndexOutOfBoundsException if there is no name with the specified slot
+     */
+    String getName(int index);
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the number of slots
+     */
+    int size();
+}
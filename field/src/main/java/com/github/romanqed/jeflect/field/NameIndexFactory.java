@@ -0,0 +1,28 @@
+package com.github.romanqed.jeflect.field;
+
+import java.util.List;
+
+/**
+ * <p>An interface describing a factory that creates
+ * {@link NameIndex} instances for subsequent resolving of names to slots.</p>
+ */
+public interface NameIndexFactory {
+
+    /**
+     * Creates a proxy implementation of the {@link NameIndex} interface for the specified names.
+     *
+     * @param names the names in the order of their slots
+     * @return object of the generated proxy class implementing the {@link NameIndex} interface
+     * @throws NullPointerException if any of the names is {@code null}
+     */
+    NameIndex packNames(List<String> names);
+
+    /**
+     * Creates a proxy implementation of the {@link NameIndex} interface for the public instance fields
+     * of the specified class. The slots match the indices of {@link ClassAccessor}.
+     *
+     * @param clazz the target class
+     * @return object of the generated proxy class implementing the {@link NameIndex} interface
+     */
+    NameIndex packClass(Class<?> clazz);
+}
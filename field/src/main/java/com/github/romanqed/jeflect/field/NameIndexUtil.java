@@ -0,0 +1,118 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jfunc.Exceptions;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+final class NameIndexUtil {
+    private static final Class<NameIndex> INDEX = NameIndex.class;
+    private static final Method INDEX_OF = Exceptions.silent(() -> INDEX.getDeclaredMethod("indexOf", String.class));
+    private static final Method GET_NAME = Exceptions.silent(() -> INDEX.getDeclaredMethod("getName", int.class));
+    private static final Method SIZE = Exceptions.silent(() -> INDEX.getDeclaredMethod("size"));
+    private static final String STRING = Type.getInternalName(String.class);
+
+    private NameIndexUtil() {
+    }
+
+    private static MethodVisitor visitMethod(ClassWriter writer, Method method) {
+        return writer.visitMethod(
+                Opcodes.ACC_PUBLIC,
+                method.getName(),
+                Type.getMethodDescriptor(method),
+                null,
+                null
+        );
+    }
+
+    static void createIndexOf(MethodVisitor visitor, List<String> names) {
+        // Open method
+        visitor.visitCode();
+        var fail = new Label();
+        if (!names.isEmpty()) {
+            // Group names by hash code, lookupswitch requires sorted keys
+            var groups = new TreeMap<Integer, List<Integer>>();
+            for (var i = 0; i < names.size(); ++i) {
+                groups.computeIfAbsent(names.get(i).hashCode(), k -> new ArrayList<>()).add(i);
+            }
+            var keys = new int[groups.size()];
+            var labels = new Label[groups.size()];
+            var position = 0;
+            for (var key : groups.keySet()) {
+                keys[position] = key;
+                labels[position++] = new Label();
+            }
+            // Null is an unknown name
+            visitor.visitVarInsn(Opcodes.ALOAD, 1);
+            visitor.visitJumpInsn(Opcodes.IFNULL, fail);
+            // Switch by hash code
+            visitor.visitVarInsn(Opcodes.ALOAD, 1);
+            visitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING, "hashCode", "()I", false);
+            visitor.visitLookupSwitchInsn(fail, keys, labels);
+            position = 0;
+            for (var entry : groups.entrySet()) {
+                visitor.visitLabel(labels[position++]);
+                var indices = entry.getValue();
+                // The last of the equal names wins, for fields it is the most derived one
+                for (var i = indices.size() - 1; i >= 0; --i) {
+                    var index = indices.get(i);
+                    var next = new Label();
+                    visitor.visitVarInsn(Opcodes.ALOAD, 1);
+                    visitor.visitLdcInsn(names.get(index));
+                    visitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING, "equals", "(Ljava/lang/Object;)Z", false);
+                    visitor.visitJumpInsn(Opcodes.IFEQ, next);
+                    AsmUtil.pushInt(visitor, index);
+                    visitor.visitInsn(Opcodes.IRETURN);
+                    visitor.visitLabel(next);
+                }
+                visitor.visitJumpInsn(Opcodes.GOTO, fail);
+            }
+        }
+        // Unknown name
+        visitor.visitLabel(fail);
+        visitor.visitInsn(Opcodes.ICONST_M1);
+        visitor.visitInsn(Opcodes.IRETURN);
+        // Close method
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    static byte[] createIndex(String name, List<String> names) {
+        var size = names.size();
+        // Create index class, frames are required because of the switches
+        var writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        writer.visit(
+                Opcodes.V11,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
+                name.replace('.', '/'),
+                null,
+                AsmUtil.OBJECT.getInternalName(),
+                new String[]{Type.getInternalName(INDEX)}
+        );
+        // Create empty constructor
+        AsmUtil.createEmptyConstructor(writer);
+        // Implement name lookup
+        createIndexOf(visitMethod(writer, INDEX_OF), names);
+        ClassAccessorUtil.createSwitch(visitMethod(writer, GET_NAME), 1, size, (visitor, i) -> {
+            visitor.visitLdcInsn(names.get(i));
+            visitor.visitInsn(Opcodes.ARETURN);
+        });
+        // Implement size
+        var visitor = visitMethod(writer, SIZE);
+        visitor.visitCode();
+        AsmUtil.pushInt(visitor, size);
+        visitor.visitInsn(Opcodes.IRETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+        // Close writer
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
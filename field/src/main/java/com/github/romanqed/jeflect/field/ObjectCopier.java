@@ -0,0 +1,20 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>A class representing an interface for copying objects of a certain class.</p>
+ * <p>The copy is created with the public no-arg constructor of the class, and then the fields are assigned.
+ * Final fields cannot be assigned outside the constructor, so they keep the values set by it.</p>
+ *
+ * @param <T> the type of copied objects
+ */
+public interface ObjectCopier<T> {
+
+    /**
+     * Creates a copy of the specified object.
+     * Only the fields declared by the class of the copier and its superclasses are copied.
+     *
+     * @param source the object to be copied
+     * @return the copy, or {@code null} if the source is {@code null}
+     */
+    T copy(T source);
+}
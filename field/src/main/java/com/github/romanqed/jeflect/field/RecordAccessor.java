@@ -0,0 +1,65 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>A class representing an interface for accessing the components of a record class by their indices.</p>
+ * <p>Components are indexed in declaration order. Since records are immutable, components are changed
+ * by creating a new record with the canonical constructor.</p>
+ */
+public interface RecordAccessor {
+
+    /**
+     * Gets the value of the component with the specified index using its accessor method.
+     * The primitives will be packed.
+     *
+     * @param record instance of the record class
+     * @param index  the index of the component
+     * @return component value
+     * @throws IndexOutOfBoundsException if there is no component with the specified index
+     */
+    Object get(Object record, int index);
+
+    /**
+     * Creates a copy of the record with the component with the specified index replaced.
+     * The primitives will be unpacked.
+     *
+     * @param record instance of the record class
+     * @param index  the index of the replaced component
+     * @param value  the new value of the component
+     * @return the new record
+     * @throws IndexOutOfBoundsException if there is no component with the specified index
+     */
+    Object with(Object record, int index, Object value);
+
+    /**
+     * Creates a new record from the values of all components. The primitives will be unpacked.
+     *
+     * @param components the values of components in declaration order
+     * @return the new record
+     * @throws IllegalArgumentException if the number of values differs from the number of components
+     */
+    Object create(Object[] components);
+
+    /**
+     * Finds the index of the component with the specified name.
+     *
+     * @param name the name of the component
+     * @return the index of the component, or -1 if there is no such component or the name is {@code null}
+     */
+    int indexOf(String name);
+
+    /**
+     * Returns the name of the component with the specified index.
+     *
+     * @param index the index of the component
+     * @return the name of the component
+     * @throws IndexOutOfBoundsException if there is no component with the specified index
+     */
+    String getName(int index);
+
+    /**
+     * Returns the number of record components.
+     *
+     * @return the number of components
+     */
+    int size();
+}
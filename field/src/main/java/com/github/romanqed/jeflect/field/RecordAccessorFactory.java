@@ -0,0 +1,17 @@
+package com.github.romanqed.jeflect.field;
+
+/**
+ * <p>An interface describing a factory that creates
+ * {@link RecordAccessor} instances for subsequent access to the components of a record class.</p>
+ */
+public interface RecordAccessorFactory {
+
+    /**
+     * Creates a proxy implementation of the {@link RecordAccessor} interface for the specified record class.
+     *
+     * @param clazz the target record class
+     * @return object of the generated proxy class implementing the {@link RecordAccessor} interface
+     * @throws IllegalArgumentException if the class is not a public record
+     */
+    RecordAccessor packRecord(Class<?> clazz);
+}
@@ -0,0 +1,73 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineLoader;
+import com.github.romanqed.jeflect.loader.ObjectFactory;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Objects;
+
+/**
+ * <p>A class representing a factory that creates
+ * {@link RecordAccessor} instances for subsequent access to the components of a record class.</p>
+ * <p>Components are read with their accessor methods, and new records are created
+ * with the canonical constructor, so no reflection is involved.</p>
+ * <p>Records are available since Java 16. On earlier versions all constructors of this class
+ * throw {@link UnsupportedOperationException}.</p>
+ */
+public final class BytecodeRecordAccessorFactory implements RecordAccessorFactory {
+    private static final String ACCESSOR = "com.github.romanqed.jeflect.field.accessor.Record";
+    private final ObjectFactory<RecordAccessor> factory;
+
+    /**
+     * Constructs a new {@code BytecodeRecordAccessorFactory} with the specified object factory.
+     *
+     * @param factory the factory used to define accessor classes and create their instances
+     * @throws UnsupportedOperationException if records are not supported by the runtime
+     */
+    public BytecodeRecordAccessorFactory(ObjectFactory<RecordAccessor> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    /**
+     * Constructs a new {@code BytecodeRecordAccessorFactory} with the specified define loader.
+     *
+     * @param loader the loader used to define accessor classes
+     * @throws UnsupportedOperationException if records are not supported by the runtime
+     */
+    public BytecodeRecordAccessorFactory(DefineLoader loader) {
+        this(ObjectFactory.of(loader));
+    }
+
+    /**
+     * Constructs a new {@code BytecodeRecordAccessorFactory} with the default define loader.
+     *
+     * @throws UnsupportedOperationException if records are not supported by the runtime
+     */
+    public BytecodeRecordAccessorFactory() {
+        this(new DefineClassLoader());
+    }
+
+    private static String getAccessorName(Class<?> clazz, RecordComponent[] components) {
+        var toHash = new StringBuilder(clazz.getName());
+        for (var component : components) {
+            toHash.append(';')
+                    .append(component.getName())
+                    .append(':')
+                    .append(Type.getDescriptor(component.getType()));
+        }
+        return ACCESSOR + AsmUtil.hash(toHash.toString());
+    }
+
+    @Override
+    public RecordAccessor packRecord(Class<?> clazz) {
+        if (!clazz.isRecord() || !Modifier.isPublic(clazz.getModifiers())) {
+            throw new IllegalArgumentException("Cannot access components of non-public or non-record " + clazz);
+        }
+        var components = clazz.getRecordComponents();
+        var name = getAccessorName(clazz, components);
+        return factory.create(name, () -> RecordUtil.createAccessor(name, clazz, components));
+    }
+}
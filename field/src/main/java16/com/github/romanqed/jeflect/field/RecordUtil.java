@@ -0,0 +1,160 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jfunc.Exceptions;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+
+final class RecordUtil {
+    private static final Class<RecordAccessor> ACCESSOR = RecordAccessor.class;
+    private static final Method GET = Exceptions.silent(
+            () -> ACCESSOR.getDeclaredMethod("get", Object.class, int.class)
+    );
+    private static final Method WITH = Exceptions.silent(
+            () -> ACCESSOR.getDeclaredMethod("with", Object.class, int.class, Object.class)
+    );
+    private static final Method CREATE = Exceptions.silent(() -> ACCESSOR.getDeclaredMethod("create", Object[].class));
+    private static final Method INDEX_OF = Exceptions.silent(() -> ACCESSOR.getDeclaredMethod("indexOf", String.class));
+    private static final Method GET_NAME = Exceptions.silent(() -> ACCESSOR.getDeclaredMethod("getName", int.class));
+    private static final Method SIZE = Exceptions.silent(() -> ACCESSOR.getDeclaredMethod("size"));
+    private static final String ARGUMENT_EXCEPTION = Type.getInternalName(IllegalArgumentException.class);
+
+    private RecordUtil() {
+    }
+
+    private static MethodVisitor visitMethod(ClassWriter writer, Method method) {
+        return writer.visitMethod(
+                Opcodes.ACC_PUBLIC,
+                method.getName(),
+                Type.getMethodDescriptor(method),
+                null,
+                null
+        );
+    }
+
+    private static void readComponent(MethodVisitor visitor, String target, RecordComponent component) {
+        // Load record
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitTypeInsn(Opcodes.CHECKCAST, target);
+        // Invoke accessor method
+        visitor.visitMethodInsn(
+                Opcodes.INVOKEVIRTUAL,
+                target,
+                component.getName(),
+                Type.getMethodDescriptor(component.getAccessor()),
+                false
+        );
+    }
+
+    private static String getConstructorDescriptor(RecordComponent[] components) {
+        var types = new Type[components.length];
+        for (var i = 0; i < components.length; ++i) {
+            types[i] = Type.getType(components[i].getType());
+        }
+        return Type.getMethodDescriptor(Type.VOID_TYPE, types);
+    }
+
+    private static void createWith(MethodVisitor visitor, String target, RecordComponent[] components, int index) {
+        visitor.visitTypeInsn(Opcodes.NEW, target);
+        visitor.visitInsn(Opcodes.DUP);
+        for (var i = 0; i < components.length; ++i) {
+            if (i == index) {
+                // Load and cast new value
+                visitor.visitVarInsn(Opcodes.ALOAD, 3);
+                AsmUtil.castReference(visitor, components[i].getType());
+            } else {
+                readComponent(visitor, target, components[i]);
+            }
+        }
+        visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, target, AsmUtil.INIT, getConstructorDescriptor(components), false);
+        visitor.visitInsn(Opcodes.ARETURN);
+    }
+
+    private static void createCreate(ClassWriter writer, String target, RecordComponent[] components) {
+        var visitor = visitMethod(writer, CREATE);
+        visitor.visitCode();
+        // Check the number of values
+        var valid = new Label();
+        visitor.visitVarInsn(Opcodes.ALOAD, 1);
+        visitor.visitInsn(Opcodes.ARRAYLENGTH);
+        AsmUtil.pushInt(visitor, components.length);
+        visitor.visitJumpInsn(Opcodes.IF_ICMPEQ, valid);
+        visitor.visitTypeInsn(Opcodes.NEW, ARGUMENT_EXCEPTION);
+        visitor.visitInsn(Opcodes.DUP);
+        visitor.visitLdcInsn("Expected " + components.length + " components");
+        visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, ARGUMENT_EXCEPTION, AsmUtil.INIT, "(Ljava/lang/String;)V", false);
+        visitor.visitInsn(Opcodes.ATHROW);
+        visitor.visitLabel(valid);
+        // Invoke canonical constructor
+        visitor.visitTypeInsn(Opcodes.NEW, target);
+        visitor.visitInsn(Opcodes.DUP);
+        for (var i = 0; i < components.length; ++i) {
+            visitor.visitVarInsn(Opcodes.ALOAD, 1);
+            AsmUtil.pushInt(visitor, i);
+            visitor.visitInsn(Opcodes.AALOAD);
+            AsmUtil.castReference(visitor, components[i].getType());
+        }
+        visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, target, AsmUtil.INIT, getConstructorDescriptor(components), false);
+        visitor.visitInsn(Opcodes.ARETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    static byte[] createAccessor(String name, Class<?> clazz, RecordComponent[] components) {
+        var target = Type.getInternalName(clazz);
+        var size = components.length;
+        // Create accessor class, frames are required because of the switches
+        var writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        writer.visit(
+                Opcodes.V11,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
+                name.replace('.', '/'),
+                null,
+                AsmUtil.OBJECT.getInternalName(),
+                new String[]{Type.getInternalName(ACCESSOR)}
+        );
+        // Create empty constructor
+        AsmUtil.createEmptyConstructor(writer);
+        // Implement get method
+        ClassAccessorUtil.createSwitch(visitMethod(writer, GET), 2, size, (visitor, i) -> {
+            var component = components[i];
+            readComponent(visitor, target, component);
+            AsmUtil.packPrimitive(visitor, component.getType());
+            visitor.visitInsn(Opcodes.ARETURN);
+        });
+        // Implement wither and canonical constructor call
+        ClassAccessorUtil.createSwitch(
+                visitMethod(writer, WITH),
+                2,
+                size,
+                (visitor, i) -> createWith(visitor, target, components, i)
+        );
+        createCreate(writer, target, components);
+        // Implement name lookup
+        var names = new ArrayList<String>(size);
+        for (var component : components) {
+            names.add(component.getName());
+        }
+        NameIndexUtil.createIndexOf(visitMethod(writer, INDEX_OF), names);
+        ClassAccessorUtil.createSwitch(visitMethod(writer, GET_NAME), 1, size, (visitor, i) -> {
+            visitor.visitLdcInsn(names.get(i));
+            visitor.visitInsn(Opcodes.ARETURN);
+        });
+        // Implement size
+        var sizeVisitor = visitMethod(writer, SIZE);
+        sizeVisitor.visitCode();
+        AsmUtil.pushInt(sizeVisitor, size);
+        sizeVisitor.visitInsn(Opcodes.IRETURN);
+        sizeVisitor.visitMaxs(0, 0);
+        sizeVisitor.visitEnd();
+        // Close writer
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
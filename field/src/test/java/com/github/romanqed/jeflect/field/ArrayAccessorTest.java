@@ -0,0 +1,62 @@
+package com.github.romanqed.jeflect.field;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ArrayAccessorTest {
+    private static final ArrayAccessorFactory FACTORY = new BytecodeArrayAccessorFactory();
+
+    @Test
+    public void testPrimitiveArray() {
+        var accessor = FACTORY.packArray(int[].class);
+        var array = new int[]{1, 2, 3};
+        accessor.set(array, 0, 10);
+        accessor.setShort(array, 1, (short) 20);
+        accessor.setInt(array, 2, 30);
+        assertAll(
+                () -> assertSame(accessor, FACTORY.packArray(int[].class)),
+                () -> assertEquals(3, accessor.length(array)),
+                () -> assertEquals(10, accessor.get(array, 0)),
+                () -> assertEquals(20, accessor.getInt(array, 1)),
+                () -> assertEquals(30L, accessor.getLong(array, 2)),
+                () -> assertEquals(30.0, accessor.getDouble(array, 2)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> accessor.getShort(array, 0)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> accessor.setLong(array, 0, 1)),
+                () -> assertThrows(ArrayIndexOutOfBoundsException.class, () -> accessor.getInt(array, 3)),
+                () -> assertThrows(ClassCastException.class, () -> accessor.get(new long[1], 0))
+        );
+    }
+
+    @Test
+    public void testReferenceArray() {
+        var accessor = FACTORY.packArray(String[].class);
+        var array = new String[]{"a", "b"};
+        accessor.set(array, 1, "c");
+        assertAll(
+                () -> assertSame(accessor.getClass(), FACTORY.packArray(int[][].class).getClass()),
+                () -> assertEquals(2, accessor.length(array)),
+                () -> assertEquals("c", accessor.get(array, 1)),
+                () -> assertThrows(ArrayStoreException.class, () -> accessor.set(array, 0, 1)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> accessor.getInt(array, 0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> FACTORY.packArray(String.class))
+        );
+    }
+
+    @Test
+    public void testCopyRange() {
+        var accessor = FACTORY.packArray(long[].class);
+        var array = new long[]{1, 2, 3, 4, 5};
+        var target = new long[4];
+        accessor.copyRange(array, 1, 4, target, 1);
+        assertAll(
+                () -> assertArrayEquals(new long[]{0, 2, 3, 4}, target),
+                () -> assertThrows(IndexOutOfBoundsException.class,
+                        () -> accessor.copyRange(array, 3, 6, target, 0)),
+                () -> assertThrows(IndexOutOfBoundsException.class,
+                        () -> accessor.copyRange(array, 0, 5, target, 0)),
+                () -> assertThrows(ClassCastException.class,
+                        () -> accessor.copyRange(array, 0, 1, new int[1], 0))
+        );
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.romanqed.jeflect.field;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class AtomicAccessorTest {
+    private static final AtomicAccessorFactory FACTORY = new BytecodeAtomicAccessorFactory();
+
+    @Test
+    public void testGeneric() throws Exception {
+        var counter = new Counter();
+        var name = FACTORY.packAtomic(Counter.class.getField("name"));
+        var count = FACTORY.packAtomic(Counter.class.getField("count"));
+        name.setVolatile(counter, "a");
+        count.setRelease(counter, 5);
+        assertAll(
+                () -> assertEquals("a", name.getVolatile(counter)),
+                () -> assertEquals(5, count.getAcquire(counter)),
+                () -> assertFalse(name.compareAndSet(counter, "b", "c")),
+                () -> assertTrue(name.compareAndSet(counter, "a", "c")),
+                () -> assertEquals("c", name.getAndSet(counter, "d")),
+                () -> assertTrue(count.compareAndSet(counter, 5, 6)),
+                () -> assertEquals(6, counter.count),
+                () -> assertThrows(UnsupportedOperationException.class, () -> name.getAndAddInt(counter, 1))
+        );
+    }
+
+    @Test
+    public void testSpecialized() throws Exception {
+        var counter = new Counter();
+        var count = FACTORY.packAtomic(Counter.class.getField("count"));
+        var total = FACTORY.packAtomic(Counter.class.getField("total"));
+        count.setIntVolatile(counter, 1);
+        total.setLongRelease(counter, 10);
+        assertAll(
+                () -> assertEquals(1, count.getAndAddInt(counter, 2)),
+                () -> assertEquals(3, count.getIntAcquire(counter)),
+                () -> assertTrue(count.compareAndSetInt(counter, 3, 4)),
+                () -> assertEquals(4, count.getAndSetInt(counter, 0)),
+                () -> assertEquals(10, total.getAndAddLong(counter, 5)),
+                () -> assertEquals(15, total.getLongVolatile(counter)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> total.getIntVolatile(counter))
+        );
+    }
+
+    @Test
+    public void testFinalAndInvalid() throws Exception {
+        var counter = new Counter();
+        var id = FACTORY.packAtomic(Counter.class.getField("id"));
+        assertAll(
+                () -> assertEquals(7, id.getIntVolatile(counter)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> id.setIntVolatile(counter, 1)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> id.compareAndSet(counter, 7, 1)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> FACTORY.packAtomic(Counter.class.getField("shared"))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> FACTORY.packAtomic(Counter.class.getDeclaredField("hidden")))
+        );
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        var counter = new Counter();
+        var total = FACTORY.packAtomic(Counter.class.getField("total"));
+        var executor = Executors.newFixedThreadPool(4);
+        for (var i = 0; i < 4; ++i) {
+            executor.execute(() -> {
+                for (var j = 0; j < 10_000; ++j) {
+                    total.getAndAddLong(counter, 1);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(40_000, total.getLongVolatile(counter));
+    }
+
+    public static final class Counter {
+        public static int shared;
+        public final int id = 7;
+        public volatile int count;
+        public volatile long total;
+        public volatile String name;
+        private int hidden;
+    }
+}
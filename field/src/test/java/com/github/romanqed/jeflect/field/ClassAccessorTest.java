@@ -0,0 +1,240 @@
+package com.github.romanqed.jeflect.field;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ClassAccessorTest {
+    private static final ClassAccessorFactory FACTORY = new BytecodeClassAccessorFactory();
+
+    @Test
+    public void testAccess() {
+        var accessor = FACTORY.packClass(Derived.class);
+        var object = new Derived();
+        assertAll(
+                () -> assertEquals(7, accessor.size()),
+                // Superclass fields go first
+                () -> assertEquals("base", accessor.getName(0)),
+                () -> assertEquals("value", accessor.getName(1)),
+                () -> assertEquals(1, accessor.get(object, 0)),
+                () -> assertEquals("derived", accessor.get(object, accessor.indexOf("name"))),
+                () -> assertEquals(-1, accessor.indexOf(null)),
+                () -> {
+                    accessor.set(object, 0, 10);
+                    assertEquals(10, ((Base) object).base);
+                },
+                () -> {
+                    accessor.set(object, accessor.indexOf("array"), new int[]{1});
+                    assertArrayEquals(new int[]{1}, object.array);
+                },
+                () -> assertThrows(UnsupportedOperationException.class,
+                        () -> accessor.set(object, accessor.indexOf("constant"), 1L)),
+                () -> assertEquals(7L, accessor.get(object, accessor.indexOf("constant")))
+        );
+    }
+
+    @Test
+    public void testHiddenFields() {
+        var accessor = FACTORY.packClass(Derived.class);
+        var object = new Derived();
+        var index = accessor.indexOf("value");
+        // The most derived field wins
+        assertAll(
+                () -> assertEquals(3, index),
+                () -> assertEquals("hidden", accessor.get(object, index)),
+                () -> assertEquals(2.0, accessor.get(object, 1)),
+                () -> assertEquals(1, accessor.get(object, 0)),
+                () -> assertEquals(3, accessor.get(object, accessor.indexOf("base")))
+        );
+    }
+
+    @Test
+    public void testIndexOf() {
+        var accessor = FACTORY.packClass(Collisions.class);
+        // "Aa" and "BB" have the same hash code
+        assertAll(
+                () -> assertEquals("Aa".hashCode(), "BB".hashCode()),
+                () -> assertEquals(0, accessor.indexOf("Aa")),
+                () -> assertEquals(1, accessor.indexOf("BB")),
+                () -> assertEquals(2, accessor.indexOf("c")),
+                () -> assertEquals(-1, accessor.indexOf("C")),
+                () -> assertEquals(-1, accessor.indexOf("")),
+                () -> assertEquals(-1, FACTORY.packClass(Object.class).indexOf("c"))
+        );
+    }
+
+    @Test
+    public void testInvalidIndex() {
+        var accessor = FACTORY.packClass(Collisions.class);
+        var empty = FACTORY.packClass(Object.class);
+        assertAll(
+                () -> assertEquals(0, empty.size()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> empty.get(new Object(), 0)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> accessor.get(new Collisions(), 3)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> accessor.set(new Collisions(), -1, null)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> accessor.getName(3)),
+                () -> assertSame(accessor, FACTORY.packClass(Collisions.class))
+        );
+    }
+
+    @Test
+    public void testNonPublicSuperclass() {
+        var accessor = FACTORY.packClass(Exposed.class);
+        var exposed = new Exposed();
+        accessor.set(exposed, accessor.indexOf("inherited"), 5);
+        assertAll(
+                () -> assertEquals(5, exposed.inherited),
+                () -> assertEquals(5, FACTORY.packClass(ExposedChild.class).get(new ExposedChild(), 0)),
+                // The field of the non-public superclass cannot be reached by name
+                () -> assertThrows(IllegalArgumentException.class, () -> FACTORY.packClass(Shadowing.class)),
+                () -> assertThrows(IllegalArgumentException.class, () -> FACTORY.packClass(ShadowingChild.class))
+        );
+    }
+
+    @Test
+    public void testSnapshot() {
+        var accessor = FACTORY.packClass(State.class);
+        var source = State.create();
+        var values = new Object[accessor.size()];
+        accessor.snapshot(source, values);
+        var target = new State();
+        accessor.restore(target, values);
+        assertAll(
+                () -> assertEquals(11, values.length),
+                () -> assertEquals(Integer.MIN_VALUE, values[accessor.indexOf("i")]),
+                () -> assertEquals(source, target),
+                // Final fields are not restored
+                () -> assertEquals(0, target.id)
+        );
+    }
+
+    @Test
+    public void testSplitSnapshot() {
+        var accessor = FACTORY.packClass(State.class);
+        var source = State.create();
+        var primitives = new long[accessor.getPrimitiveCount()];
+        var references = new Object[accessor.getReferenceCount()];
+        accessor.snapshot(source, primitives, references);
+        var target = new State();
+        accessor.restore(target, primitives, references);
+        assertAll(
+                () -> assertEquals(9, primitives.length),
+                () -> assertEquals(2, references.length),
+                () -> assertEquals(Double.doubleToRawLongBits(-0.0), primitives[8]),
+                () -> assertEquals(source, target),
+                () -> assertEquals(0, target.id),
+                () -> {
+                    // Values are narrowed to the field type
+                    primitives[2] = 0x1FFFFL;
+                    primitives[3] = 0x12345L;
+                    accessor.restore(target, primitives, references);
+                    assertEquals((byte) 0xFF, target.b);
+                    assertEquals((char) 0x2345, target.c);
+                }
+        );
+    }
+
+    public static class State {
+        public final int id;
+        public boolean z;
+        public byte b;
+        public char c;
+        public short s;
+        public int i;
+        public long l;
+        public float f;
+        public double d;
+        public String name;
+        public int[] array;
+
+        public State() {
+            this.id = 0;
+        }
+
+        public State(int id) {
+            this.id = id;
+        }
+
+        static State create() {
+            var ret = new State(42);
+            ret.z = true;
+            ret.b = -1;
+            ret.c = 'x';
+            ret.s = Short.MIN_VALUE;
+            ret.i = Integer.MIN_VALUE;
+            ret.l = Long.MAX_VALUE;
+            ret.f = Float.NaN;
+            ret.d = -0.0;
+            ret.name = "state";
+            ret.array = new int[]{1, 2};
+            return ret;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof State)) {
+                return false;
+            }
+            var state = (State) o;
+            return z == state.z
+                    && b == state.b
+                    && c == state.c
+                    && s == state.s
+                    && i == state.i
+                    && l == state.l
+                    && Float.compare(f, state.f) == 0
+                    && Double.compare(d, state.d) == 0
+                    && Objects.equals(name, state.name)
+                    && array == state.array;
+        }
+
+        @Override
+        public int hashCode() {
+            return i;
+        }
+    }
+
+    public static class Base {
+        public int base = 1;
+        public double value = 2.0;
+        protected int hidden;
+    }
+
+    public static class Derived extends Base {
+        public final long constant = 7L;
+        public String value = "hidden";
+        // Same name and type as in the superclass
+        public int base = 3;
+        public String name = "derived";
+        public int[] array;
+        public static int ignored;
+    }
+
+    static class Hidden {
+        public int inherited;
+    }
+
+    public static class Exposed extends Hidden {
+    }
+
+    public static class ExposedChild extends Exposed {
+        public ExposedChild() {
+            inherited = 5;
+        }
+    }
+
+    public static class Shadowing extends Hidden {
+        public int inherited;
+    }
+
+    public static class ShadowingChild extends Shadowing {
+    }
+
+    public static class Collisions {
+        public int Aa;
+        public int BB;
+        public int c;
+    }
+}
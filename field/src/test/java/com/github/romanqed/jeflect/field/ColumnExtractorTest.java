@@ -0,0 +1,109 @@
+package com.github.romanqed.jeflect.field;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ColumnExtractorTest {
+    private static final ColumnExtractorFactory FACTORY = new BytecodeColumnExtractorFactory();
+
+    private static Order[] createOrders(int count) {
+        var ret = new Order[count];
+        for (var i = 0; i < count; ++i) {
+            ret[i] = new Order(i, i * 1.5, "order" + i);
+        }
+        return ret;
+    }
+
+    @Test
+    public void testPrimitiveColumn() throws Exception {
+        var prices = FACTORY.packColumn(Order.class.getField("price"));
+        var ids = FACTORY.packColumn(Order.class.getField("id"));
+        var orders = createOrders(10);
+        var priceColumn = new double[10];
+        var idColumn = new long[12];
+        prices.extract(orders, priceColumn);
+        ids.extract(orders, 2, 6, idColumn, 8);
+        assertAll(
+                () -> assertEquals(13.5, priceColumn[9]),
+                () -> assertEquals(0, idColumn[7]),
+                () -> assertEquals(2, idColumn[8]),
+                () -> assertEquals(5, idColumn[11])
+        );
+    }
+
+    @Test
+    public void testReferenceColumn() throws Exception {
+        var names = FACTORY.packColumn(Order.class.getField("name"));
+        var column = new String[3];
+        names.extract(List.of(createOrders(3)), column);
+        assertArrayEquals(new String[]{"order0", "order1", "order2"}, column);
+    }
+
+    @Test
+    public void testListColumn() throws Exception {
+        var ids = FACTORY.packColumn(Order.class.getField("id"));
+        var orders = createOrders(5);
+        var random = new ArrayList<>(Arrays.asList(orders));
+        var sequential = new LinkedList<>(Arrays.asList(orders));
+        var randomColumn = new long[5];
+        var sequentialColumn = new long[5];
+        var rangeColumn = new long[3];
+        ids.extract(random, randomColumn);
+        ids.extract(sequential, sequentialColumn);
+        ids.extract(random, 1, 4, rangeColumn, 0);
+        assertAll(
+                () -> assertArrayEquals(new long[]{0, 1, 2, 3, 4}, randomColumn),
+                () -> assertArrayEquals(new long[]{0, 1, 2, 3, 4}, sequentialColumn),
+                () -> assertArrayEquals(new long[]{1, 2, 3}, rangeColumn),
+                () -> assertThrows(IndexOutOfBoundsException.class,
+                        () -> ids.extract(random, 3, 6, new long[3], 0))
+        );
+    }
+
+    @Test
+    public void testParallel() throws Exception {
+        var prices = FACTORY.packColumn(Order.class.getField("price"));
+        var orders = createOrders(10_000);
+        var column = new double[orders.length];
+        prices.extract(orders, column, ForkJoinPool.commonPool(), 1000);
+        for (var i = 0; i < orders.length; ++i) {
+            assertEquals(orders[i].price, column[i]);
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() throws Exception {
+        var prices = FACTORY.packColumn(Order.class.getField("price"));
+        var orders = createOrders(4);
+        assertAll(
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> prices.extract(orders, new double[3])),
+                () -> assertThrows(IndexOutOfBoundsException.class,
+                        () -> prices.extract(orders, 3, 5, new double[4], 0)),
+                () -> assertThrows(ClassCastException.class, () -> prices.extract(orders, new long[4])),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> FACTORY.packColumn(Order.class.getField("count"))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> prices.extract(orders, new double[4], ForkJoinPool.commonPool(), 0))
+        );
+    }
+
+    public static class Order {
+        public static int count;
+        public long id;
+        public double price;
+        public String name;
+
+        public Order(long id, double price, String name) {
+            this.id = id;
+            this.price = price;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.romanqed.jeflect.field;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ComparisonTest {
+    private static final ComparisonFactory FACTORY = new BytecodeComparisonFactory();
+
+    private static List<Field> getFields(String... names) throws Exception {
+        var ret = new ArrayList<Field>();
+        for (var name : names) {
+            ret.add(Key.class.getField(name));
+        }
+        return ret;
+    }
+
+    @Test
+    public void testEqualizer() throws Exception {
+        var equalizer = FACTORY.packEqualizer(Key.class, getFields("id", "weight", "name", "flag"));
+        var first = new Key(1, 2, Double.NaN, "a", true);
+        var second = new Key(1, 3, Double.NaN, "a", true);
+        assertAll(
+                () -> assertTrue(equalizer.equals(null, null)),
+                () -> assertTrue(equalizer.equals(first, first)),
+                () -> assertTrue(equalizer.equals(first, second)),
+                () -> assertFalse(equalizer.equals(first, null)),
+                () -> assertFalse(equalizer.equals(null, second)),
+                () -> assertFalse(equalizer.equals(first, new Key(1, 2, Double.NaN, null, true))),
+                () -> assertFalse(equalizer.equals(first, new Key(1, 2, Double.NaN, "a", false))),
+                () -> assertFalse(equalizer.equals(first, new Key(2, 2, Double.NaN, "a", true)))
+        );
+    }
+
+    @Test
+    public void testHasher() throws Exception {
+        var hasher = FACTORY.packHasher(Key.class, getFields("id", "group", "weight", "name", "flag"));
+        var key = new Key(5, 7, 1.5, "key", false);
+        var empty = FACTORY.packHasher(Key.class, List.of());
+        assertAll(
+                () -> assertEquals(Objects.hash(5L, 7, 1.5, "key", false), hasher.hash(key)),
+                () -> assertEquals(Objects.hash(5L, 7, 1.5, null, false), hasher.hash(new Key(5, 7, 1.5, null, false))),
+                () -> assertEquals(0, hasher.hash(null)),
+                () -> assertEquals(1, empty.hash(key))
+        );
+    }
+
+    @Test
+    public void testComparator() throws Exception {
+        var comparator = FACTORY.packComparator(Key.class, getFields("group", "name", "id"));
+        var keys = new ArrayList<>(List.of(
+                new Key(3, 2, 0, "b", false),
+                new Key(1, 1, 0, "z", false),
+                new Key(2, 2, 0, "a", false),
+                new Key(1, 2, 0, "b", false)
+        ));
+        keys.sort(comparator);
+        assertAll(
+                () -> assertEquals(1, keys.get(0).id),
+                () -> assertEquals("z", keys.get(0).name),
+                () -> assertEquals(2, keys.get(1).id),
+                () -> assertEquals(1, keys.get(2).id),
+                () -> assertEquals(3, keys.get(3).id),
+                () -> assertEquals(0, FACTORY.packComparator(Key.class, List.of()).compare(keys.get(0), keys.get(1)))
+        );
+    }
+
+    @Test
+    public void testInvalidFields() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> FACTORY.packComparator(Key.class, List.of(Key.class.getField("data")))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> FACTORY.packEqualizer(Key.class, List.of(Key.class.getDeclaredField("hidden")))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> FACTORY.packHasher(Key.class, List.of(String.class.getField("CASE_INSENSITIVE_ORDER")))),
+                () -> assertThrows(IllegalArgumentException.class, () -> FACTORY.packEqualizer(
+                        ClassAccessorTest.Shadowing.class,
+                        List.of(ClassAccessorTest.Hidden.class.getField("inherited"))
+                ))
+        );
+    }
+
+    public static final class Key {
+        public long id;
+        public int group;
+        public double weight;
+        public String name;
+        public boolean flag;
+        public Object data;
+        private int hidden;
+
+        public Key(long id, int group, double weight, String name, boolean flag) {
+            this.id = id;
+            this.group = group;
+            this.weight = weight;
+            this.name = name;
+            this.flag = flag;
+        }
+    }
+}
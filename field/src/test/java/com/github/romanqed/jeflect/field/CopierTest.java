@@ -0,0 +1,183 @@
+package com.github.romanqed.jeflect.field;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.PriorityBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class CopierTest {
+
+    private static Dto create() {
+        var ret = new Dto();
+        ret.base = 5;
+        ret.name = "dto";
+        ret.values = new int[]{1, 2, 3};
+        ret.nested = new Nested();
+        ret.nested.value = 10;
+        ret.children = new Nested[]{new Nested(), null};
+        ret.kind = Kind.SECOND;
+        ret.cached = "cached";
+        return ret;
+    }
+
+    @Test
+    public void testShallowCopy() {
+        var copier = new BytecodeCopierFactory().packCopier(Dto.class);
+        var source = create();
+        var copy = copier.copy(source);
+        assertAll(
+                () -> assertNotSame(source, copy),
+                () -> assertEquals(5, copy.base),
+                () -> assertEquals("dto", copy.name),
+                () -> assertSame(source.values, copy.values),
+                () -> assertSame(source.nested, copy.nested),
+                () -> assertEquals("cached", copy.cached),
+                // Final fields keep the values set by the constructor
+                () -> assertEquals(1, copy.version),
+                () -> assertNull(copier.copy(null))
+        );
+    }
+
+    @Test
+    public void testDeepCopy() {
+        var copier = new BytecodeCopierFactory(CopyOption.DEEP, CopyOption.SKIP_TRANSIENT).packCopier(Dto.class);
+        var source = create();
+        var copy = copier.copy(source);
+        assertAll(
+                () -> assertNotSame(source.values, copy.values),
+                () -> assertArrayEquals(source.values, copy.values),
+                () -> assertNotSame(source.nested, copy.nested),
+                () -> assertEquals(10, copy.nested.value),
+                () -> assertNotSame(source.children, copy.children),
+                () -> assertNotSame(source.children[0], copy.children[0]),
+                () -> assertNull(copy.children[1]),
+                () -> assertSame(Kind.SECOND, copy.kind),
+                () -> assertSame(source.name, copy.name),
+                () -> assertNull(copy.cached)
+        );
+    }
+
+    @Test
+    public void testDeepCollections() {
+        var copier = new BytecodeCopierFactory(CopyOption.DEEP).packCopier(Holder.class);
+        var source = new Holder();
+        var nested = new Nested();
+        nested.value = 5;
+        source.list = new ArrayList<>(List.of(nested));
+        source.immutable = List.of(nested);
+        source.sorted = new TreeMap<>(Comparator.reverseOrder());
+        source.sorted.put("a", nested);
+        source.sorted.put("b", null);
+        source.queue = new PriorityQueue<>(Comparator.comparingInt((Nested n) -> n.value).reversed());
+        source.blocking = new PriorityBlockingQueue<>(1, Comparator.comparingInt((Nested n) -> n.value));
+        for (var i = 0; i < 3; ++i) {
+            var element = new Nested();
+            element.value = i;
+            source.queue.add(element);
+            source.blocking.add(element);
+        }
+        source.kinds = EnumSet.of(Kind.FIRST);
+        source.count = BigInteger.TEN;
+        source.amount = new BigDecimal("1.5");
+        source.id = UUID.randomUUID();
+        source.date = LocalDate.of(2020, 1, 1);
+        var copy = copier.copy(source);
+        var mutable = new Holder();
+        mutable.count = new Counter();
+        assertAll(
+                () -> assertEquals(ArrayList.class, copy.list.getClass()),
+                () -> assertNotSame(nested, copy.list.get(0)),
+                () -> assertEquals(5, copy.list.get(0).value),
+                () -> assertNotSame(nested, copy.immutable.get(0)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> copy.immutable.add(nested)),
+                () -> assertEquals(TreeMap.class, copy.sorted.getClass()),
+                () -> assertEquals(List.of("b", "a"), new ArrayList<>(copy.sorted.keySet())),
+                () -> assertEquals(5, copy.sorted.get("a").value),
+                () -> assertNotSame(nested, copy.sorted.get("a")),
+                () -> assertEquals(PriorityQueue.class, copy.queue.getClass()),
+                () -> assertEquals(2, copy.queue.poll().value),
+                () -> assertNotSame(source.queue.peek(), copy.queue.peek()),
+                () -> assertEquals(PriorityBlockingQueue.class, copy.blocking.getClass()),
+                () -> assertEquals(0, copy.blocking.poll().value),
+                () -> assertSame(source.count, copy.count),
+                // Subclasses of non-final immutable classes are not shared
+                () -> assertThrows(IllegalArgumentException.class, () -> copier.copy(mutable)),
+                () -> assertNotSame(source.kinds, copy.kinds),
+                () -> assertEquals(source.kinds, copy.kinds),
+                () -> assertSame(source.amount, copy.amount),
+                () -> assertSame(source.id, copy.id),
+                () -> assertSame(source.date, copy.date)
+        );
+    }
+
+    @Test
+    public void testInvalidClass() {
+        var factory = new BytecodeCopierFactory();
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> factory.packCopier(Private.class)),
+                () -> assertThrows(IllegalArgumentException.class, () -> factory.packCopier(NoConstructor.class)),
+                () -> assertSame(factory.packCopier(Nested.class), factory.packCopier(Nested.class))
+        );
+    }
+
+    public enum Kind {
+        FIRST,
+        SECOND
+    }
+
+    public static class Base {
+        public int base;
+    }
+
+    public static class Dto extends Base {
+        public final int version = 1;
+        public String name;
+        public int[] values;
+        public Nested nested;
+        public Nested[] children;
+        public Kind kind;
+        public transient String cached;
+    }
+
+    public static class Nested {
+        public int value;
+    }
+
+    public static class Holder {
+        public List<Nested> list;
+        public List<Nested> immutable;
+        public TreeMap<String, Nested> sorted;
+        public PriorityQueue<Nested> queue;
+        public PriorityBlockingQueue<Nested> blocking;
+        public Set<Kind> kinds;
+        public BigInteger count;
+        public BigDecimal amount;
+        public UUID id;
+        public LocalDate date;
+    }
+
+    public static class Counter extends BigInteger {
+        public int extra;
+
+        public Counter() {
+            super("0");
+        }
+    }
+
+    public static class Private {
+        private int value;
+    }
+
+    public static class NoConstructor {
+        public int value;
+
+        public NoConstructor(int value) {
+            this.value = value;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.github.romanqed.jeflect.field;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public final class FieldAccessorTest {
@@ -83,6 +85,102 @@ public final class FieldAccessorTest {
         );
     }
 
+    @Test
+    public void testAccessorNames() throws Exception {
+        var field1 = Primitives.class.getDeclaredField("field1");
+        var field2 = Primitives.class.getDeclaredField("field2");
+        var accessor = FACTORY.packField(field1);
+        var name = accessor.getClass().getName();
+        assertAll(
+                () -> assertTrue(name.startsWith("com.github.romanqed.jeflect.field.accessor.")),
+                () -> assertSame(accessor, FACTORY.packField(field1)),
+                () -> assertEquals(name, new BytecodeAccessorFactory().packField(field1).getClass().getName()),
+                () -> assertNotEquals(name, FACTORY.packField(field2).getClass().getName())
+        );
+    }
+
+    @Test
+    public void testPackFields() throws Exception {
+        var factory = new BytecodeAccessorFactory();
+        var field = References.class.getDeclaredField("field2");
+        var accessors = factory.packFields(List.of(
+                field,
+                Primitives.class.getDeclaredField("field2"),
+                field
+        ));
+        var references = new References();
+        var primitives = new Primitives();
+        assertAll(
+                () -> assertEquals(3, accessors.size()),
+                () -> assertEquals(references.field2, accessors.get(0).get(references)),
+                () -> assertEquals(primitives.field2, accessors.get(1).get(primitives)),
+                () -> assertSame(accessors.get(0), accessors.get(2)),
+                () -> assertSame(accessors.get(1), factory.packField(Primitives.class.getDeclaredField("field2")))
+        );
+    }
+
+    @Test
+    public void testTypedPrimitives() throws Exception {
+        var clazz = Typed.class;
+        var i = FACTORY.packField(clazz.getDeclaredField("i"));
+        var l = FACTORY.packField(clazz.getDeclaredField("l"));
+        var c = FACTORY.packField(clazz.getDeclaredField("c"));
+        var f = FACTORY.packField(clazz.getDeclaredField("f"));
+        var b = FACTORY.packField(clazz.getDeclaredField("b"));
+        var d = FACTORY.packField(clazz.getDeclaredField("d"));
+        var s = FACTORY.packField(clazz.getDeclaredField("s"));
+        var object = new Typed();
+        assertAll(
+                () -> {
+                    i.setInt(object, 7);
+                    assertEquals(7, i.getInt(object));
+                    // Widening conversions
+                    assertEquals(7L, i.getLong(object));
+                    assertEquals(7.0, i.getDouble(object));
+                    i.setShort(object, (short) 3);
+                    i.setChar(object, 'a');
+                    assertEquals('a', object.i);
+                },
+                () -> {
+                    l.setLong(Long.MAX_VALUE);
+                    assertEquals(Long.MAX_VALUE, l.getLong());
+                    l.setInt(-1);
+                    assertEquals(-1f, l.getFloat());
+                },
+                () -> {
+                    c.setChar(object, 'x');
+                    assertEquals('x', c.getChar(object));
+                    assertEquals('x', c.getInt(object));
+                },
+                () -> {
+                    f.setLong(object, 2L);
+                    assertEquals(2.0f, f.getFloat(object));
+                    assertEquals(2.0, f.getDouble(object));
+                },
+                () -> {
+                    b.setBoolean(object, true);
+                    assertTrue(b.getBoolean(object));
+                },
+                () -> assertEquals(1.5, d.getDouble(object)),
+                () -> {
+                    s.setByte(object, (byte) -2);
+                    assertEquals(-2, s.getShort(object));
+                }
+        );
+        // Narrowing conversions and wrong kinds are not supported
+        assertAll(
+                () -> assertThrows(UnsupportedOperationException.class, () -> i.getShort(object)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> i.setLong(object, 1L)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> c.setShort(object, (short) 1)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> b.getInt(object)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> l.getLong(object)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> i.getInt()),
+                () -> assertThrows(UnsupportedOperationException.class, () -> d.setDouble(object, 1.0)),
+                () -> assertThrows(UnsupportedOperationException.class,
+                        () -> FACTORY.packField(References.class.getDeclaredField("field2")).getInt(new References()))
+        );
+    }
+
     public static class Primitives {
         public static int field1 = 123;
 
@@ -106,4 +204,14 @@ public final class FieldAccessorTest {
 
         public final int field2 = 321;
     }
+
+    public static class Typed {
+        public static long l;
+        public final double d = 1.5;
+        public int i;
+        public char c;
+        public float f;
+        public boolean b;
+        public short s;
+    }
 }
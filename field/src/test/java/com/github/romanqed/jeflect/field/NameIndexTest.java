@@ -0,0 +1,69 @@
+package com.github.romanqed.jeflect.field;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class NameIndexTest {
+    private static final NameIndexFactory FACTORY = new BytecodeNameIndexFactory();
+
+    @Test
+    public void testNames() {
+        // "Aa" and "BB" have the same hash code
+        var index = FACTORY.packNames(List.of("userId", "Aa", "BB", "name", "userId"));
+        assertAll(
+                () -> assertEquals(5, index.size()),
+                () -> assertEquals(1, index.indexOf("Aa")),
+                () -> assertEquals(2, index.indexOf("BB")),
+                () -> assertEquals(3, index.indexOf("name")),
+                () -> assertEquals(4, index.indexOf("userId")),
+                () -> assertEquals(-1, index.indexOf("missing")),
+                () -> assertEquals("userId", index.getName(0)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> index.getName(5)),
+                () -> assertEquals(-1, index.indexOf(null))
+        );
+    }
+
+    @Test
+    public void testEmpty() {
+        var index = FACTORY.packNames(List.of());
+        assertAll(
+                () -> assertEquals(0, index.size()),
+                () -> assertEquals(-1, index.indexOf("")),
+                () -> assertEquals(-1, index.indexOf(null)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> index.getName(0))
+        );
+    }
+
+    @Test
+    public void testManyNames() {
+        var names = new ArrayList<String>();
+        for (var i = 0; i < 1000; ++i) {
+            names.add("field" + i);
+        }
+        var index = FACTORY.packNames(names);
+        for (var i = 0; i < names.size(); ++i) {
+            assertEquals(i, index.indexOf(names.get(i)));
+        }
+    }
+
+    @Test
+    public void testClassSlots() throws Exception {
+        var index = FACTORY.packClass(Slots.class);
+        var accessor = new BytecodeClassAccessorFactory().packClass(Slots.class);
+        var slots = new Slots();
+        assertAll(
+                () -> assertEquals(accessor.size(), index.size()),
+                () -> assertEquals(accessor.indexOf("second"), index.indexOf("second")),
+                () -> assertEquals("b", accessor.get(slots, index.indexOf("second")))
+        );
+    }
+
+    public static final class Slots {
+        public int first = 1;
+        public String second = "b";
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.romanqed.jeflect.field;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public final class RecordAccessorTest {
+    private static final String POINT = "com/github/romanqed/jeflect/field/records/Point";
+    private static final String[] NAMES = {"x", "y", "name"};
+    private static final String[] DESCRIPTORS = {"I", "J", "Ljava/lang/String;"};
+
+    private static boolean isSupported() {
+        return Runtime.version().feature() >= 16;
+    }
+
+    // Generates "public record Point(int x, long y, String name) {}" with only the members used here,
+    // since this test is compiled for Java 11
+    private static byte[] generateRecord() {
+        var writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(
+                Opcodes.V16,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+                POINT,
+                null,
+                "java/lang/Record",
+                null
+        );
+        for (var i = 0; i < NAMES.length; ++i) {
+            writer.visitRecordComponent(NAMES[i], DESCRIPTORS[i], null).visitEnd();
+            writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, NAMES[i], DESCRIPTORS[i], null, null)
+                    .visitEnd();
+            var accessor = writer.visitMethod(Opcodes.ACC_PUBLIC, NAMES[i], "()" + DESCRIPTORS[i], null, null);
+            accessor.visitCode();
+            accessor.visitVarInsn(Opcodes.ALOAD, 0);
+            accessor.visitFieldInsn(Opcodes.GETFIELD, POINT, NAMES[i], DESCRIPTORS[i]);
+            accessor.visitInsn(Type.getType(DESCRIPTORS[i]).getOpcode(Opcodes.IRETURN));
+            accessor.visitMaxs(0, 0);
+            accessor.visitEnd();
+        }
+        var init = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "(IJLjava/lang/String;)V", null, null);
+        init.visitCode();
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Record", "<init>", "()V", false);
+        var slot = 1;
+        for (var i = 0; i < NAMES.length; ++i) {
+            var type = Type.getType(DESCRIPTORS[i]);
+            init.visitVarInsn(Opcodes.ALOAD, 0);
+            init.visitVarInsn(type.getOpcode(Opcodes.ILOAD), slot);
+            init.visitFieldInsn(Opcodes.PUTFIELD, POINT, NAMES[i], DESCRIPTORS[i]);
+            slot += type.getSize();
+        }
+        init.visitInsn(Opcodes.RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static Class<?> loadRecord(DefineClassLoader loader) {
+        return loader.define(POINT.replace('/', '.'), generateRecord());
+    }
+
+    @Test
+    public void testComponents() throws Exception {
+        assumeTrue(isSupported());
+        var loader = new DefineClassLoader();
+        var clazz = loadRecord(loader);
+        var accessor = new BytecodeRecordAccessorFactory(new DefineClassLoader(loader)).packRecord(clazz);
+        var point = accessor.create(new Object[]{1, 2L, "a"});
+        var moved = accessor.with(point, accessor.indexOf("y"), 5L);
+        assertAll(
+                () -> assertSame(clazz, point.getClass()),
+                () -> assertEquals(3, accessor.size()),
+                () -> assertEquals(1, accessor.get(point, 0)),
+                () -> assertEquals(2L, accessor.get(point, 1)),
+                () -> assertEquals("a", accessor.get(point, 2)),
+                () -> assertEquals(1, accessor.get(moved, 0)),
+                () -> assertEquals(5L, accessor.get(moved, 1)),
+                () -> assertEquals("a", accessor.get(moved, 2)),
+                () -> assertEquals(2L, accessor.get(point, 1)),
+                () -> assertEquals("name", accessor.getName(2)),
+                () -> assertEquals(-1, accessor.indexOf("z"))
+        );
+    }
+
+    @Test
+    public void testInvalidArguments() throws Exception {
+        assumeTrue(isSupported());
+        var loader = new DefineClassLoader();
+        var clazz = loadRecord(loader);
+        var factory = new BytecodeRecordAccessorFactory(new DefineClassLoader(loader));
+        var accessor = factory.packRecord(clazz);
+        var point = accessor.create(new Object[]{1, 2L, null});
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> accessor.create(new Object[]{1, 2L})),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> accessor.get(point, 3)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> accessor.with(point, -1, 0)),
+                () -> assertThrows(ClassCastException.class, () -> accessor.with(point, 0, "1")),
+                () -> assertThrows(IllegalArgumentException.class, () -> factory.packRecord(Object.class))
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.romanqed.jeflect.lambda;
 
+import com.github.romanqed.jfunc.Exceptions;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -7,12 +8,17 @@ import org.objectweb.asm.Type;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Map;
 
 final class AsmUtil {
     // String constants
     static final String INIT = "<init>";
     static final String EMPTY_DESCRIPTOR = "()V";
+    // Hash constants
+    static final String DIGEST = "SHA-256";
+    static final int HASH_LENGTH = 16;
     // Type constants
     static final Type OBJECT = Type.getType(Object.class);
     static final Map<Class<?>, Class<?>> PRIMITIVES = Map.of(
@@ -36,9 +42,47 @@ final class AsmUtil {
             double.class, "doubleValue"
     );
 
+    // Conversion opcodes between the primitive types of stack values
+    private static final Map<Class<?>, Map<Class<?>, Integer>> CONVERSIONS = Map.of(
+            int.class, Map.of(long.class, Opcodes.I2L, float.class, Opcodes.I2F, double.class, Opcodes.I2D),
+            long.class, Map.of(int.class, Opcodes.L2I, float.class, Opcodes.L2F, double.class, Opcodes.L2D),
+            float.class, Map.of(int.class, Opcodes.F2I, long.class, Opcodes.F2L, double.class, Opcodes.F2D),
+            double.class, Map.of(int.class, Opcodes.D2I, long.class, Opcodes.D2L, float.class, Opcodes.D2F)
+    );
+
     private AsmUtil() {
     }
 
+    static String hash(String value) {
+        var digest = Exceptions.silent(() -> MessageDigest.getInstance(DIGEST));
+        var bytes = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+        // 128 bits are enough to make collisions practically impossible
+        var ret = new StringBuilder(HASH_LENGTH * 2);
+        for (var i = 0; i < HASH_LENGTH; ++i) {
+            ret.append(Character.forDigit((bytes[i] >> 4) & 0xF, 16));
+            ret.append(Character.forDigit(bytes[i] & 0xF, 16));
+        }
+        return ret.toString();
+    }
+
+    static void pushInt(MethodVisitor visitor, int value) {
+        // If it is in [-1, 5], use const opcodes
+        if (value >= -1 && value <= 5) {
+            visitor.visitInsn(value + Opcodes.ICONST_0);
+            return;
+        }
+        // Else use push instructions
+        if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            visitor.visitIntInsn(Opcodes.BIPUSH, value);
+            return;
+        }
+        if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            visitor.visitIntInsn(Opcodes.SIPUSH, value);
+            return;
+        }
+        visitor.visitLdcInsn(value);
+    }
+
     static void castReference(MethodVisitor visitor, Class<?> clazz) {
         if (clazz == Object.class) {
             return;
@@ -102,4 +146,30 @@ final class AsmUtil {
                 isInterface
         );
     }
+
+    private static Class<?> getStackType(Class<?> primitive) {
+        if (primitive == byte.class || primitive == short.class || primitive == char.class) {
+            return int.class;
+        }
+        return primitive;
+    }
+
+    static void convertPrimitive(MethodVisitor visitor, Class<?> from, Class<?> to) {
+        // Primitive conversion as performed by a cast, narrowing values if necessary
+        if (from == to) {
+            return;
+        }
+        var source = getStackType(from);
+        var target = getStackType(to);
+        if (source != target) {
+            visitor.visitInsn(CONVERSIONS.get(source).get(target));
+        }
+        if (to == byte.class) {
+            visitor.visitInsn(Opcodes.I2B);
+        } else if (to == short.class) {
+            visitor.visitInsn(Opcodes.I2S);
+        } else if (to == char.class) {
+            visitor.visitInsn(Opcodes.I2C);
+        }
+    }
 }
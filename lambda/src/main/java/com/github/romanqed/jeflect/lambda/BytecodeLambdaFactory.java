@@ -2,19 +2,31 @@ package com.github.romanqed.jeflect.lambda;
 
 import com.github.romanqed.jeflect.loader.DefineClassLoader;
 import com.github.romanqed.jeflect.loader.DefineLoader;
-import com.github.romanqed.jeflect.loader.DefineObjectFactory;
 import com.github.romanqed.jeflect.loader.ObjectFactory;
 import org.objectweb.asm.Type;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * A bytecode factory that generates the bytecode of a proxy class for methods and constructors.
+ * <p>Proxy names are derived from a 128-bit digest of the member signature,
+ * so they are unique and stay the same across JVM runs.</p>
+ * <p>Batch packing generates the bytecode of all missing proxies in parallel and defines them in a single pass,
+ * if the underlying {@link ObjectFactory} supports it.</p>
+ * <p>Proxies of methods returning primitive values additionally implement {@link IntLambda},
+ * {@link LongLambda} or {@link DoubleLambda}, so the result can be obtained without boxing.</p>
  */
 public final class BytecodeLambdaFactory implements LambdaFactory {
-    private static final String PROXY = "Proxy";
+    private static final String PROXY = "com.github.romanqed.jeflect.lambda.proxy.Proxy";
     private final ObjectFactory<Lambda> factory;
 
     public BytecodeLambdaFactory(ObjectFactory<Lambda> factory) {
@@ -22,7 +34,7 @@ public final class BytecodeLambdaFactory implements LambdaFactory {
     }
 
     public BytecodeLambdaFactory(DefineLoader loader) {
-        this(new DefineObjectFactory<>(loader));
+        this(ObjectFactory.of(loader));
     }
 
     public BytecodeLambdaFactory() {
@@ -30,13 +42,13 @@ public final class BytecodeLambdaFactory implements LambdaFactory {
     }
 
     private static String getProxyName(Method method) {
-        var toHash = method.getDeclaringClass().getName() + method.getName() + Type.getMethodDescriptor(method);
-        return PROXY + toHash.hashCode();
+        var toHash = method.getDeclaringClass().getName() + '.' + method.getName() + Type.getMethodDescriptor(method);
+        return PROXY + AsmUtil.hash(toHash);
     }
 
     private static String getProxyName(Constructor<?> ctor) {
-        var toHash = ctor.getName() + Type.getConstructorDescriptor(ctor);
-        return PROXY + toHash.hashCode();
+        var toHash = ctor.getName() + '.' + AsmUtil.INIT + Type.getConstructorDescriptor(ctor);
+        return PROXY + AsmUtil.hash(toHash);
     }
 
     @Override
@@ -50,4 +62,33 @@ public final class BytecodeLambdaFactory implements LambdaFactory {
         var name = getProxyName(constructor);
         return factory.create(name, () -> ProxyUtil.createProxy(name, constructor));
     }
+
+    private <E> List<Lambda> pack(Collection<E> members,
+                                  Function<E, String> namer,
+                                  BiFunction<String, E, byte[]> generator) {
+        var names = new ArrayList<String>(members.size());
+        var providers = new HashMap<String, Callable<byte[]>>();
+        for (var member : members) {
+            var name = namer.apply(member);
+            names.add(name);
+            // Duplicates share the same proxy
+            providers.putIfAbsent(name, () -> generator.apply(name, member));
+        }
+        var objects = factory.create(providers);
+        var ret = new ArrayList<Lambda>(names.size());
+        for (var name : names) {
+            ret.add(objects.get(name));
+        }
+        return ret;
+    }
+
+    @Override
+    public List<Lambda> packMethods(Collection<Method> methods) {
+        return pack(methods, BytecodeLambdaFactory::getProxyName, ProxyUtil::createProxy);
+    }
+
+    @Override
+    public List<Lambda> packConstructors(Collection<Constructor<?>> constructors) {
+        return pack(constructors, BytecodeLambdaFactory::getProxyName, ProxyUtil::createProxy);
+    }
 }
@@ -0,0 +1,113 @@
+package com.github.romanqed.jeflect.lambda;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineLoader;
+import com.github.romanqed.jeflect.loader.ObjectFactory;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A bytecode factory that generates routers dispatching calls by integer ids.
+ * <p>The generated router stores lambdas in fields and selects the target with a {@code tableswitch},
+ * so each lambda is called from its own call site. If the class of a lambda is public and visible
+ * from the class loader defining routers, it is called with {@code invokevirtual} directly,
+ * otherwise through the {@link Lambda} interface.</p>
+ * <p>Router classes are shared between routers with the same lambda classes,
+ * so packing the same set of lambdas again does not generate new bytecode.</p>
+ * <p>Routers of methods contain direct calls of the methods and have no state, so they are cached
+ * and their names are derived from a digest of the method signatures.</p>
+ */
+public final class BytecodeRouterFactory implements RouterFactory {
+    private static final String ROUTER = "com.github.romanqed.jeflect.lambda.router.Router";
+    private static final String METHOD_ROUTER = "com.github.romanqed.jeflect.lambda.router.MethodRouter";
+    private static final Class<Lambda> LAMBDA = Lambda.class;
+    private final ObjectFactory<LambdaRouter> factory;
+    private final ClassLoader loader;
+
+    /**
+     * Constructs a new {@code BytecodeRouterFactory}.
+     *
+     * @param factory the factory used to define and instantiate routers
+     * @param loader  the class loader the factory defines routers in,
+     *                or {@code null} to call all lambdas through the {@link Lambda} interface
+     */
+    public BytecodeRouterFactory(ObjectFactory<LambdaRouter> factory, ClassLoader loader) {
+        this.factory = Objects.requireNonNull(factory);
+        this.loader = loader;
+    }
+
+    public BytecodeRouterFactory(ObjectFactory<LambdaRouter> factory) {
+        this(factory, null);
+    }
+
+    public BytecodeRouterFactory(DefineLoader loader) {
+        this(ObjectFactory.of(loader), loader.getClassLoader());
+    }
+
+    public BytecodeRouterFactory() {
+        this(new DefineClassLoader());
+    }
+
+    private Class<?> getType(Lambda lambda) {
+        var clazz = Objects.requireNonNull(lambda).getClass();
+        if (loader == null || !Modifier.isPublic(clazz.getModifiers())) {
+            return LAMBDA;
+        }
+        // The class must be accessible from the generated router
+        if (!clazz.getModule().isExported(clazz.getPackageName())) {
+            return LAMBDA;
+        }
+        try {
+            // The class must be resolved to the same class from the router loader
+            return Class.forName(clazz.getName(), false, loader) == clazz ? clazz : LAMBDA;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return LAMBDA;
+        }
+    }
+
+    private static String getRouterName(Class<?>[] types) {
+        var toHash = new StringBuilder();
+        for (var type : types) {
+            toHash.append(type.getName()).append(';');
+        }
+        return ROUTER + AsmUtil.hash(toHash.toString());
+    }
+
+    private static String getRouterName(List<Method> methods) {
+        var toHash = new StringBuilder();
+        for (var method : methods) {
+            toHash.append(method.getDeclaringClass().getName())
+                    .append('.')
+                    .append(method.getName())
+                    .append(Type.getMethodDescriptor(method))
+                    .append(';');
+        }
+        return METHOD_ROUTER + AsmUtil.hash(toHash.toString());
+    }
+
+    @Override
+    public LambdaRouter packLambdas(List<? extends Lambda> lambdas) {
+        var array = lambdas.toArray(new Lambda[0]);
+        var types = new Class<?>[array.length];
+        for (var i = 0; i < array.length; ++i) {
+            types[i] = getType(array[i]);
+        }
+        var name = getRouterName(types);
+        return factory.create(
+                name,
+                () -> RouterUtil.createRouter(name, types),
+                clazz -> (LambdaRouter) clazz.getConstructor(Lambda[].class).newInstance((Object) array)
+        );
+    }
+
+    @Override
+    public LambdaRouter packMethods(List<Method> methods) {
+        var copy = List.copyOf(methods);
+        var name = getRouterName(copy);
+        return factory.create(name, () -> RouterUtil.createRouter(name, copy));
+    }
+}
@@ -46,4 +46,109 @@ public interface Lambda {
     default Object invoke() throws Throwable {
         return invoke(null, null);
     }
+
+    /**
+     * Calls a method belonging to the specified object without parameters.
+     * Unlike {@link Lambda#invoke(Object, Object[])}, generated proxies implement it without any argument array.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    default Object invoke0(Object instance) throws Throwable {
+        return invoke(instance, null);
+    }
+
+    /**
+     * Calls a method belonging to the specified object with one parameter.
+     * Unlike {@link Lambda#invoke(Object, Object[])}, generated proxies implement it without any argument array.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @param a1       the first method parameter
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    default Object invoke1(Object instance, Object a1) throws Throwable {
+        return invoke(instance, new Object[]{a1});
+    }
+
+    /**
+     * Calls a method belonging to the specified object with 2 parameters.
+     * Unlike {@link Lambda#invoke(Object, Object[])}, generated proxies implement it without any argument array.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @param a1       the first method parameter
+     * @param a2       the second method parameter
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    default Object invoke2(Object instance, Object a1, Object a2) throws Throwable {
+        return invoke(instance, new Object[]{a1, a2});
+    }
+
+    /**
+     * Calls a method belonging to the specified object with 3 parameters.
+     * Unlike {@link Lambda#invoke(Object, Object[])}, generated proxies implement it without any argument array.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @param a1       the first method parameter
+     * @param a2       the second method parameter
+     * @param a3       the third method parameter
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    default Object invoke3(Object instance, Object a1, Object a2, Object a3) throws Throwable {
+        return invoke(instance, new Object[]{a1, a2, a3});
+    }
+
+    /**
+     * Calls a method belonging to the specified object with 4 parameters.
+     * Unlike {@link Lambda#invoke(Object, Object[])}, generated proxies implement it without any argument array.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @param a1       the first method parameter
+     * @param a2       the second method parameter
+     * @param a3       the third method parameter
+     * @param a4       the fourth method parameter
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    default Object invoke4(Object instance, Object a1, Object a2, Object a3, Object a4) throws Throwable {
+        return invoke(instance, new Object[]{a1, a2, a3, a4});
+    }
+
+    /**
+     * Calls a method belonging to the specified object with 5 parameters.
+     * Unlike {@link Lambda#invoke(Object, Object[])}, generated proxies implement it without any argument array.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @param a1       the first method parameter
+     * @param a2       the second method parameter
+     * @param a3       the third method parameter
+     * @param a4       the fourth method parameter
+     * @param a5       the fifth method parameter
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    default Object invoke5(Object instance, Object a1, Object a2, Object a3, Object a4, Object a5) throws Throwable {
+        return invoke(instance, new Object[]{a1, a2, a3, a4, a5});
+    }
+
+    /**
+     * Calls a method belonging to the specified object with 6 parameters.
+     * Unlike {@link Lambda#invoke(Object, Object[])}, generated proxies implement it without any argument array.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @param a1       the first method parameter
+     * @param a2       the second method parameter
+     * @param a3       the third method parameter
+     * @param a4       the fourth method parameter
+     * @param a5       the fifth method parameter
+     * @param a6       the sixth method parameter
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    default Object invoke6(Object instance, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6) throws Throwable {
+        return invoke(instance, new Object[]{a1, a2, a3, a4, a5, a6});
+    }
 }
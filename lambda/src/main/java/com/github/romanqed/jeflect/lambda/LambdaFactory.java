@@ -2,6 +2,9 @@ package com.github.romanqed.jeflect.lambda;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * An interface describing factory that generates the bytecode of a proxy class for methods and constructors.
@@ -23,4 +26,32 @@ public interface LambdaFactory {
      * @return object of the generated proxy class implementing the {@link Lambda} interface
      */
     Lambda packConstructor(Constructor<?> constructor);
+
+    /**
+     * Creates proxy implementations of the {@link Lambda} interface for all specified methods.
+     *
+     * @param methods the target methods
+     * @return the list of proxies in the same order as the methods
+     */
+    default List<Lambda> packMethods(Collection<Method> methods) {
+        var ret = new ArrayList<Lambda>(methods.size());
+        for (var method : methods) {
+            ret.add(packMethod(method));
+        }
+        return ret;
+    }
+
+    /**
+     * Creates proxy implementations of the {@link Lambda} interface for all specified constructors.
+     *
+     * @param constructors the target constructors
+     * @return the list of proxies in the same order as the constructors
+     */
+    default List<Lambda> packConstructors(Collection<Constructor<?>> constructors) {
+        var ret = new ArrayList<Lambda>(constructors.size());
+        for (var constructor : constructors) {
+            ret.add(packConstructor(constructor));
+        }
+        return ret;
+    }
 }
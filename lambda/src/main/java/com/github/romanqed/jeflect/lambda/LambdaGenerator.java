@@ -0,0 +1,86 @@
+package com.github.romanqed.jeflect.lambda;
+
+import com.github.romanqed.jeflect.loader.CachedClassLoader;
+import com.github.romanqed.jeflect.loader.ClassScanner;
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import com.github.romanqed.jeflect.loader.DefineObjectFactory;
+import com.github.romanqed.jeflect.loader.DirectoryClassCache;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>A command-line entry point generating lambda proxies at build time.</p>
+ * <p>Usage: {@code LambdaGenerator <output directory> <target>...}, where a target is a class name,
+ * a package with its subpackages ({@code com.example.*}) or the whole class path ({@code *}).
+ * Proxies are generated for all public methods and constructors declared by the public target classes,
+ * and written in a class directory layout. Packed into the application jar or added to the classpath,
+ * they are found by {@link BytecodeLambdaFactory} instead of being generated at runtime.</p>
+ */
+public final class LambdaGenerator {
+    private static final String USAGE = "Usage: LambdaGenerator <output directory> <target>...";
+
+    private LambdaGenerator() {
+    }
+
+    private static boolean isAccessible(Class<?> clazz) {
+        for (var current = clazz; current != null; current = current.getDeclaringClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return !clazz.isSynthetic() && !clazz.isAnonymousClass() && !clazz.isLocalClass();
+    }
+
+    /**
+     * Generates proxies for all public methods and constructors declared by the specified classes.
+     * Non-public classes are skipped.
+     *
+     * @param output  the root of the class directory
+     * @param classes the target classes
+     * @return the number of packed methods and constructors
+     */
+    public static int generate(Path output, List<Class<?>> classes) {
+        var loader = new CachedClassLoader(new DefineClassLoader(), new DirectoryClassCache(output));
+        var factory = new BytecodeLambdaFactory(new DefineObjectFactory<>(loader));
+        var ret = 0;
+        for (var clazz : classes) {
+            if (!isAccessible(clazz)) {
+                continue;
+            }
+            var methods = new ArrayList<Method>();
+            for (var method : clazz.getDeclaredMethods()) {
+                if (Modifier.isPublic(method.getModifiers()) && !method.isSynthetic() && !method.isBridge()) {
+                    methods.add(method);
+                }
+            }
+            var constructors = new ArrayList<Constructor<?>>();
+            if (!clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers())) {
+                for (var constructor : clazz.getConstructors()) {
+                    constructors.add(constructor);
+                }
+            }
+            ret += factory.packMethods(methods).size();
+            ret += factory.packConstructors(constructors).size();
+        }
+        return ret;
+    }
+
+    public static void main(String[] args) throws ClassNotFoundException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(USAGE);
+        }
+        var names = new ClassScanner().resolve(List.of(args).subList(1, args.length));
+        var loader = ClassLoader.getSystemClassLoader();
+        var classes = new ArrayList<Class<?>>(names.size());
+        for (var name : names) {
+            classes.add(Class.forName(name, false, loader));
+        }
+        var count = generate(Path.of(args[0]), classes);
+        System.out.println("Packed " + count + " members of " + classes.size() + " classes into " + args[0]);
+    }
+}
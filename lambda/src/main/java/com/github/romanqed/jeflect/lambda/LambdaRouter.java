@@ -0,0 +1,58 @@
+package com.github.romanqed.jeflect.lambda;
+
+import java.util.Objects;
+
+/**
+ * An interface describing a dispatcher that invokes one of several lambdas by its integer id.
+ * <p>Each id is served by a separate call site inside the router, so invocations stay monomorphic
+ * even if the router dispatches to hundreds of different lambda implementations.</p>
+ * <p>A router can also call methods directly, in which case it replaces a whole set of proxy classes
+ * with a single one.</p>
+ */
+public interface LambdaRouter {
+
+    /**
+     * Calls the lambda with the specified id.
+     *
+     * @param id       the id of the lambda, that is its index in the packed list
+     * @param instance an object containing the implementation of the method
+     * @param args     method parameters
+     * @return the result returned by the lambda
+     * @throws IndexOutOfBoundsException if there is no lambda with the specified id
+     * @throws Throwable                 if the lambda throws an exception
+     */
+    Object invoke(int id, Object instance, Object[] args) throws Throwable;
+
+    /**
+     * Calls the lambda with the specified id without an instance.
+     *
+     * @param id   the id of the lambda, that is its index in the packed list
+     * @param args method parameters
+     * @return the result returned by the lambda
+     * @throws IndexOutOfBoundsException if there is no lambda with the specified id
+     * @throws Throwable                 if the lambda throws an exception
+     */
+    default Object invoke(int id, Object[] args) throws Throwable {
+        return invoke(id, null, args);
+    }
+
+    /**
+     * Returns a lightweight view of the lambda with the specified id.
+     * <p>The view does not generate any classes and forwards all calls to this router.</p>
+     *
+     * @param id the id of the lambda
+     * @return the {@link Lambda} calling this router with the specified id
+     * @throws IndexOutOfBoundsException if there is no lambda with the specified id
+     */
+    default Lambda getLambda(int id) {
+        Objects.checkIndex(id, size());
+        return new RouterLambda(this, id);
+    }
+
+    /**
+     * Returns the number of lambdas served by this router.
+     *
+     * @return the number of lambdas
+     */
+    int size();
+}
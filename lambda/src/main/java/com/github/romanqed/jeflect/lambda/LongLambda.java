@@ -0,0 +1,72 @@
+package com.github.romanqed.jeflect.lambda;
+
+/**
+ * A {@link Lambda} specialization for methods returning {@code long} values.
+ * <p>The result is returned as {@code long} without boxing.
+ * Typed overloads pass {@code long} arguments without boxing, converting them to the primitive
+ * parameter types as by a cast (for example, narrowing {@code long} to {@code int}).
+ * Reference parameters receive the packed argument. If the target method has a {@code boolean} parameter,
+ * typed overloads fall back to boxed invocation and throw {@link ClassCastException}.</p>
+ */
+public interface LongLambda extends Lambda {
+
+    /**
+     * Calls a method belonging to the specified object with the specified parameters.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @param args     method parameters
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    long invokeLong(Object instance, Object[] args) throws Throwable;
+
+    /**
+     * Calls a method belonging to the specified object without parameters.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    default long invokeLong(Object instance) throws Throwable {
+        return invokeLong(instance, (Object[]) null);
+    }
+
+    /**
+     * Calls a method belonging to the specified object with one parameter of type {@code long}.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @param a1       the first method parameter
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    default long invokeLong(Object instance, long a1) throws Throwable {
+        return invokeLong(instance, new Object[]{a1});
+    }
+
+    /**
+     * Calls a method belonging to the specified object with 2 parameters of type {@code long}.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @param a1       the first method parameter
+     * @param a2       the second method parameter
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    default long invokeLong(Object instance, long a1, long a2) throws Throwable {
+        return invokeLong(instance, new Object[]{a1, a2});
+    }
+
+    /**
+     * Calls a method belonging to the specified object with 3 parameters of type {@code long}.
+     *
+     * @param instance an object containing the implementation of the method, or null if the method is static
+     * @param a1       the first method parameter
+     * @param a2       the second method parameter
+     * @param a3       the third method parameter
+     * @return the result returned by the method
+     * @throws Throwable if the method throws an exception
+     */
+    default long invokeLong(Object instance, long a1, long a2, long a3) throws Throwable {
+        return invokeLong(instance, new Object[]{a1, a2, a3});
+    }
+}
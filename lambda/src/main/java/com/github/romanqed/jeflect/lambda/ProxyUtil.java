@@ -9,68 +9,178 @@ import org.objectweb.asm.Type;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.function.Consumer;
 
 final class ProxyUtil {
+    // The maximum number of parameters that can be passed without an array
+    static final int MAX_ARITY = 6;
     private static final Class<Lambda> LAMBDA = Lambda.class;
     private static final Method METHOD = Exceptions.silent(
             () -> LAMBDA.getDeclaredMethod("invoke", Object.class, Object[].class)
     );
+    private static final Method[] ARITY_METHODS = Exceptions.silent(ProxyUtil::findArityMethods);
+    private static final Map<Class<?>, Class<? extends Lambda>> SPECIALIZATIONS = Map.of(
+            byte.class, IntLambda.class,
+            short.class, IntLambda.class,
+            char.class, IntLambda.class,
+            int.class, IntLambda.class,
+            long.class, LongLambda.class,
+            float.class, DoubleLambda.class,
+            double.class, DoubleLambda.class
+    );
 
     private ProxyUtil() {
     }
 
+    private static Method[] findArityMethods() throws NoSuchMethodException {
+        var ret = new Method[MAX_ARITY + 1];
+        for (var i = 0; i < ret.length; ++i) {
+            // Instance is followed by i arguments
+            var parameters = new Class<?>[i + 1];
+            Arrays.fill(parameters, Object.class);
+            ret[i] = LAMBDA.getDeclaredMethod("invoke" + i, parameters);
+        }
+        return ret;
+    }
+
+    private static void implementMethod(ClassWriter writer,
+                                        Method method,
+                                        Consumer<MethodVisitor> loader,
+                                        Consumer<MethodVisitor> extractor,
+                                        Consumer<MethodVisitor> invoker,
+                                        Consumer<MethodVisitor> returner) {
+        var visitor = writer.visitMethod(Opcodes.ACC_PUBLIC,
+                method.getName(),
+                Type.getMethodDescriptor(method),
+                null,
+                new String[]{Type.getInternalName(Throwable.class)});
+        visitor.visitCode();
+        // Load executable owner
+        loader.accept(visitor);
+        // Extract parameters
+        extractor.accept(visitor);
+        // Invoke target method
+        invoker.accept(visitor);
+        // Return result
+        returner.accept(visitor);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static boolean isMatching(Class<?>[] parameters, Class<?>[] types) {
+        // The first type is always the instance
+        if (parameters.length != types.length - 1) {
+            return false;
+        }
+        // Boolean parameters cannot be converted from numeric arguments
+        for (var parameter : parameters) {
+            if (parameter == boolean.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void loadArgument(MethodVisitor visitor, Class<?> argument, Class<?> parameter, int index) {
+        visitor.visitVarInsn(Type.getType(argument).getOpcode(Opcodes.ILOAD), index);
+        if (parameter.isPrimitive()) {
+            // Convert primitive argument as by a cast
+            AsmUtil.convertPrimitive(visitor, argument, parameter);
+            return;
+        }
+        // Reference parameters receive the packed argument, as in the boxed invocation
+        AsmUtil.packPrimitive(visitor, argument);
+        AsmUtil.castReference(visitor, parameter);
+    }
+
+    private static void implementSpecialized(ClassWriter writer,
+                                             Class<? extends Lambda> lambda,
+                                             Class<?>[] parameters,
+                                             Class<?> returnType,
+                                             Consumer<MethodVisitor> loader,
+                                             Consumer<MethodVisitor> invoker,
+                                             Consumer<MethodVisitor> extractor) {
+        for (var method : lambda.getDeclaredMethods()) {
+            var types = method.getParameterTypes();
+            var isGeneric = types.length == 2 && types[1] == Object[].class;
+            if (!isGeneric && !isMatching(parameters, types)) {
+                continue;
+            }
+            var kind = Type.getType(method.getReturnType());
+            implementMethod(writer, method, loader, isGeneric ? extractor : visitor -> {
+                var index = 2;
+                for (var i = 0; i < parameters.length; ++i) {
+                    var argument = types[i + 1];
+                    loadArgument(visitor, argument, parameters[i], index);
+                    index += Type.getType(argument).getSize();
+                }
+            }, invoker, visitor -> {
+                // Widen float to double, other types are already stack-compatible
+                if (returnType == float.class && kind.getSort() == Type.DOUBLE) {
+                    visitor.visitInsn(Opcodes.F2D);
+                }
+                visitor.visitInsn(kind.getOpcode(Opcodes.IRETURN));
+            });
+        }
+    }
+
     static byte[] createProxy(String name,
                               Class<?>[] parameters,
+                              Class<?> returnType,
                               Consumer<MethodVisitor> loader,
                               Consumer<MethodVisitor> invoker) {
+        var lambda = SPECIALIZATIONS.get(returnType);
+        var type = lambda == null ? LAMBDA : lambda;
         // Create proxy class
         var writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
         writer.visit(Opcodes.V11,
                 Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
-                name,
+                name.replace('.', '/'),
                 null,
                 Type.getInternalName(Object.class),
-                new String[]{Type.getInternalName(LAMBDA)});
+                new String[]{Type.getInternalName(type)});
         // Create empty constructor
         AsmUtil.createEmptyConstructor(writer);
-        // Implement proxy method
-        var visitor = writer.visitMethod(Opcodes.ACC_PUBLIC,
-                METHOD.getName(),
-                Type.getMethodDescriptor(METHOD),
-                null,
-                new String[]{Type.getInternalName(Throwable.class)});
-        visitor.visitCode();
-        // Load executable owner
-        loader.accept(visitor);
-        // Extract parameters
-        var index = 0;
-        for (var parameter : parameters) {
-            // Load array containing params
-            visitor.visitVarInsn(Opcodes.ALOAD, 2);
-            // Push index to stack
-            // If it <= 5, use const opcodes
-            if (index <= 5) {
-                visitor.visitInsn(index + Opcodes.ICONST_0);
+        // Wrap return value if it necessary
+        var returner = (Consumer<MethodVisitor>) visitor -> {
+            if (returnType == void.class) {
+                visitor.visitInsn(Opcodes.ACONST_NULL);
             } else {
-                // Else use push instructions
-                // Since according to the specification,
-                // the method cannot have more than 255 parameters,
-                // we do not need to use LDC
-                visitor.visitIntInsn(index <= Byte.MAX_VALUE ? Opcodes.BIPUSH : Opcodes.SIPUSH, index);
+                AsmUtil.packPrimitive(visitor, returnType);
+            }
+            visitor.visitInsn(Opcodes.ARETURN);
+        };
+        var extractor = (Consumer<MethodVisitor>) visitor -> {
+            for (var i = 0; i < parameters.length; ++i) {
+                // Load array containing params
+                visitor.visitVarInsn(Opcodes.ALOAD, 2);
+                // Push index to stack
+                AsmUtil.pushInt(visitor, i);
+                // Load argument from array
+                visitor.visitInsn(Opcodes.AALOAD);
+                // Cast argument
+                AsmUtil.castReference(visitor, parameters[i]);
             }
-            // Load argument from array
-            visitor.visitInsn(Opcodes.AALOAD);
-            // Cast argument
-            AsmUtil.castReference(visitor, parameter);
-            ++index;
+        };
+        // Implement universal proxy method
+        implementMethod(writer, METHOD, loader, extractor, invoker, returner);
+        // Implement arity-specialized proxy method, if it exists
+        if (parameters.length <= MAX_ARITY) {
+            implementMethod(writer, ARITY_METHODS[parameters.length], loader, visitor -> {
+                for (var i = 0; i < parameters.length; ++i) {
+                    // Arguments are placed right after the instance
+                    visitor.visitVarInsn(Opcodes.ALOAD, i + 2);
+                    // Cast argument
+                    AsmUtil.castReference(visitor, parameters[i]);
+                }
+            }, invoker, returner);
+        }
+        // Implement primitive-specialized proxy methods, if the return type allows it
+        if (lambda != null) {
+            implementSpecialized(writer, lambda, parameters, returnType, loader, invoker, extractor);
         }
-        // Invoke target method
-        invoker.accept(visitor);
-        // Return result
-        visitor.visitInsn(Opcodes.ARETURN);
-        visitor.visitMaxs(0, 0);
-        visitor.visitEnd();
         // Close writer
         writer.visitEnd();
         return writer.toByteArray();
@@ -87,18 +197,9 @@ final class ProxyUtil {
                 visitor.visitTypeInsn(Opcodes.CHECKCAST, owner.getInternalName());
             }
         };
-        var invoker = (Consumer<MethodVisitor>) visitor -> {
-            // Invoke target method
-            AsmUtil.invoke(visitor, method);
-            // Wrap return value if it necessary
-            var type = method.getReturnType();
-            if (type == void.class) {
-                visitor.visitInsn(Opcodes.ACONST_NULL);
-                return;
-            }
-            AsmUtil.packPrimitive(visitor, type);
-        };
-        return createProxy(name, method.getParameterTypes(), loader, invoker);
+        // Invoke target method
+        var invoker = (Consumer<MethodVisitor>) visitor -> AsmUtil.invoke(visitor, method);
+        return createProxy(name, method.getParameterTypes(), method.getReturnType(), loader, invoker);
     }
 
     static byte[] createProxy(String name, Constructor<?> constructor) {
@@ -117,6 +218,12 @@ final class ProxyUtil {
                     Type.getConstructorDescriptor(constructor),
                     false);
         };
-        return createProxy(name, constructor.getParameterTypes(), loader, invoker);
+        return createProxy(
+                name,
+                constructor.getParameterTypes(),
+                constructor.getDeclaringClass(),
+                loader,
+                invoker
+        );
     }
 }
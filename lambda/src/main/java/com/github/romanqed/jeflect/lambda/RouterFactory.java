@@ -0,0 +1,60 @@
+package com.github.romanqed.jeflect.lambda;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An interface describing factory that generates routers dispatching calls by integer ids.
+ */
+public interface RouterFactory {
+
+    /**
+     * Creates a router that dispatches calls to the specified lambdas.
+     * The id of each lambda is its index in the list.
+     *
+     * @param lambdas the lambdas to be dispatched
+     * @return the router for the specified lambdas
+     */
+    LambdaRouter packLambdas(List<? extends Lambda> lambdas);
+
+    /**
+     * Creates a router that calls the specified methods directly, without generating a proxy for each of them.
+     * The id of each method is its index in the list.
+     *
+     * @param methods the methods to be called
+     * @return the router for the specified methods
+     */
+    LambdaRouter packMethods(List<Method> methods);
+
+    /**
+     * Packs all public methods of the specified class, including inherited ones,
+     * into a single router and returns a lightweight {@link Lambda} view for each of them.
+     * <p>Methods declared by {@link Object}, synthetic methods and methods of non-public classes are skipped.</p>
+     *
+     * @param clazz the class whose methods are to be packed
+     * @return the map of packed methods to their lambdas, ordered by method name and signature
+     */
+    default Map<Method, Lambda> packClass(Class<?> clazz) {
+        var methods = new ArrayList<Method>();
+        for (var method : clazz.getMethods()) {
+            var owner = method.getDeclaringClass();
+            if (owner == Object.class || method.isSynthetic() || !Modifier.isPublic(owner.getModifiers())) {
+                continue;
+            }
+            methods.add(method);
+        }
+        // The order of getMethods is unspecified, so sort methods to get the same router every time
+        methods.sort(Comparator.comparing(Method::getName).thenComparing(Method::toString));
+        var router = packMethods(methods);
+        var ret = new LinkedHashMap<Method, Lambda>();
+        for (var i = 0; i < methods.size(); ++i) {
+            ret.put(methods.get(i), router.getLambda(i));
+        }
+        return ret;
+    }
+}
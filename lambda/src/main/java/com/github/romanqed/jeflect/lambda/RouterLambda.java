@@ -0,0 +1,16 @@
+package com.github.romanqed.jeflect.lambda;
+
+final class RouterLambda implements Lambda {
+    private final LambdaRouter router;
+    private final int id;
+
+    RouterLambda(LambdaRouter router, int id) {
+        this.router = router;
+        this.id = id;
+    }
+
+    @Override
+    public Object invoke(Object instance, Object[] args) throws Throwable {
+        return router.invoke(id, instance, args);
+    }
+}
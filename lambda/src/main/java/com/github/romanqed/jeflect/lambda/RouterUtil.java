@@ -0,0 +1,175 @@
+package com.github.romanqed.jeflect.lambda;
+
+import com.github.romanqed.jfunc.Exceptions;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+final class RouterUtil {
+    private static final String FIELD = "l";
+    private static final Class<LambdaRouter> ROUTER = LambdaRouter.class;
+    private static final Method INVOKE = Exceptions.silent(
+            () -> ROUTER.getDeclaredMethod("invoke", int.class, Object.class, Object[].class)
+    );
+    private static final Method SIZE = Exceptions.silent(() -> ROUTER.getDeclaredMethod("size"));
+    private static final Method LAMBDA_INVOKE = Exceptions.silent(
+            () -> Lambda.class.getDeclaredMethod("invoke", Object.class, Object[].class)
+    );
+    private static final String EXCEPTION = Type.getInternalName(IndexOutOfBoundsException.class);
+
+    private RouterUtil() {
+    }
+
+    private static MethodVisitor visitMethod(ClassWriter writer, Method method) {
+        return writer.visitMethod(Opcodes.ACC_PUBLIC,
+                method.getName(),
+                Type.getMethodDescriptor(method),
+                null,
+                method.getExceptionTypes().length == 0 ? null : new String[]{Type.getInternalName(Throwable.class)});
+    }
+
+    private static void createSize(ClassWriter writer, int size) {
+        var visitor = visitMethod(writer, SIZE);
+        visitor.visitCode();
+        AsmUtil.pushInt(visitor, size);
+        visitor.visitInsn(Opcodes.IRETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void createInvoke(ClassWriter writer, int size, BiConsumer<MethodVisitor, Integer> caller) {
+        var visitor = visitMethod(writer, INVOKE);
+        visitor.visitCode();
+        var fail = new Label();
+        if (size > 0) {
+            var labels = new Label[size];
+            for (var i = 0; i < size; ++i) {
+                labels[i] = new Label();
+            }
+            // Switch by id
+            visitor.visitVarInsn(Opcodes.ILOAD, 1);
+            visitor.visitTableSwitchInsn(0, size - 1, fail, labels);
+            for (var i = 0; i < size; ++i) {
+                visitor.visitLabel(labels[i]);
+                caller.accept(visitor, i);
+                visitor.visitInsn(Opcodes.ARETURN);
+            }
+        }
+        // Unknown id
+        visitor.visitLabel(fail);
+        visitor.visitTypeInsn(Opcodes.NEW, EXCEPTION);
+        visitor.visitInsn(Opcodes.DUP);
+        visitor.visitVarInsn(Opcodes.ILOAD, 1);
+        visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, EXCEPTION, AsmUtil.INIT, "(I)V", false);
+        visitor.visitInsn(Opcodes.ATHROW);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static ClassWriter createWriter(String name) {
+        // Frames are required because of the switch
+        var writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        writer.visit(Opcodes.V11,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
+                name,
+                null,
+                AsmUtil.OBJECT.getInternalName(),
+                new String[]{Type.getInternalName(ROUTER)});
+        return writer;
+    }
+
+    static byte[] createRouter(String name, List<Method> methods) {
+        var writer = createWriter(name.replace('.', '/'));
+        AsmUtil.createEmptyConstructor(writer);
+        // Implement dispatching
+        createInvoke(writer, methods.size(), (visitor, i) -> {
+            var method = methods.get(i);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                // Load object and cast it to method owner
+                visitor.visitVarInsn(Opcodes.ALOAD, 2);
+                visitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(method.getDeclaringClass()));
+            }
+            var parameters = method.getParameterTypes();
+            for (var j = 0; j < parameters.length; ++j) {
+                // Load argument from array
+                visitor.visitVarInsn(Opcodes.ALOAD, 3);
+                AsmUtil.pushInt(visitor, j);
+                visitor.visitInsn(Opcodes.AALOAD);
+                AsmUtil.castReference(visitor, parameters[j]);
+            }
+            AsmUtil.invoke(visitor, method);
+            // Wrap return value
+            var returnType = method.getReturnType();
+            if (returnType == void.class) {
+                visitor.visitInsn(Opcodes.ACONST_NULL);
+            } else {
+                AsmUtil.packPrimitive(visitor, returnType);
+            }
+        });
+        createSize(writer, methods.size());
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    static byte[] createRouter(String name, Class<?>[] types) {
+        var owner = name.replace('.', '/');
+        var writer = createWriter(owner);
+        // Create fields, typed as precisely as possible
+        for (var i = 0; i < types.length; ++i) {
+            writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL,
+                    FIELD + i,
+                    Type.getDescriptor(types[i]),
+                    null,
+                    null).visitEnd();
+        }
+        // Create constructor accepting lambda array
+        var lambdas = Type.getDescriptor(Lambda[].class);
+        var init = writer.visitMethod(Opcodes.ACC_PUBLIC, AsmUtil.INIT, "(" + lambdas + ")V", null, null);
+        init.visitCode();
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitMethodInsn(Opcodes.INVOKESPECIAL,
+                AsmUtil.OBJECT.getInternalName(),
+                AsmUtil.INIT,
+                AsmUtil.EMPTY_DESCRIPTOR,
+                false);
+        for (var i = 0; i < types.length; ++i) {
+            init.visitVarInsn(Opcodes.ALOAD, 0);
+            init.visitVarInsn(Opcodes.ALOAD, 1);
+            AsmUtil.pushInt(init, i);
+            init.visitInsn(Opcodes.AALOAD);
+            if (types[i] != Lambda.class) {
+                init.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(types[i]));
+            }
+            init.visitFieldInsn(Opcodes.PUTFIELD, owner, FIELD + i, Type.getDescriptor(types[i]));
+        }
+        init.visitInsn(Opcodes.RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+        // Implement dispatching
+        var descriptor = Type.getMethodDescriptor(LAMBDA_INVOKE);
+        createInvoke(writer, types.length, (visitor, i) -> {
+            var type = types[i];
+            var isInterface = type.isInterface();
+            visitor.visitVarInsn(Opcodes.ALOAD, 0);
+            visitor.visitFieldInsn(Opcodes.GETFIELD, owner, FIELD + i, Type.getDescriptor(type));
+            visitor.visitVarInsn(Opcodes.ALOAD, 2);
+            visitor.visitVarInsn(Opcodes.ALOAD, 3);
+            // Known class is called directly, otherwise fallback to the interface call
+            visitor.visitMethodInsn(isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+                    Type.getInternalName(type),
+                    LAMBDA_INVOKE.getName(),
+                    descriptor,
+                    isInterface);
+        });
+        createSize(writer, types.length);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
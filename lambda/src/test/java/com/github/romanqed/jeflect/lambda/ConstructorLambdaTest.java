@@ -2,6 +2,8 @@ package com.github.romanqed.jeflect.lambda;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 
@@ -35,6 +37,25 @@ public final class ConstructorLambdaTest {
         assertThrowsExactly(Exception.class, () -> packed.invoke(new Object[]{""}));
     }
 
+    @Test
+    public void testArity() throws Throwable {
+        var empty = FACTORY.packConstructor(A.class.getDeclaredConstructor());
+        var multi = FACTORY.packConstructor(A.class.getDeclaredConstructor(int.class, int.class));
+        assertEquals(10, ((A) empty.invoke0(null)).a);
+        assertEquals(11, ((A) multi.invoke2(null, 5, 6)).a);
+    }
+
+    @Test
+    public void testPackConstructors() throws Throwable {
+        var packed = FACTORY.packConstructors(List.of(
+                A.class.getDeclaredConstructor(int.class),
+                A.class.getDeclaredConstructor(int.class, int.class)
+        ));
+        assertEquals(2, packed.size());
+        assertEquals(3, ((A) packed.get(0).invoke1(null, 3)).a);
+        assertEquals(7, ((A) packed.get(1).invoke2(null, 3, 4)).a);
+    }
+
     public static class A {
         int a;
 
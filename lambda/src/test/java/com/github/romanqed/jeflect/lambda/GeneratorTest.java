@@ -0,0 +1,51 @@
+package com.github.romanqed.jeflect.lambda;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class GeneratorTest {
+
+    @Test
+    public void testGenerate() throws Throwable {
+        var root = Files.createTempDirectory("jeflect");
+        assertEquals(3, LambdaGenerator.generate(root, List.of(Target.class, Hidden.class)));
+        // Runtime: the generated proxies are found through the classpath
+        try (var classpath = new URLClassLoader(new URL[]{root.toUri().toURL()}, Target.class.getClassLoader())) {
+            var factory = new BytecodeLambdaFactory(new DefineClassLoader(classpath));
+            var constructor = factory.packConstructor(Target.class.getConstructor());
+            var method = factory.packMethod(Target.class.getMethod("get", int.class));
+            assertAll(
+                    () -> assertEquals(classpath, constructor.getClass().getClassLoader()),
+                    () -> assertEquals(classpath, method.getClass().getClassLoader()),
+                    () -> assertEquals(5, method.invoke(constructor.invoke(), new Object[]{5}))
+            );
+        }
+    }
+
+    public static final class Target {
+        public static int sm() {
+            return 1;
+        }
+
+        public int get(int value) {
+            return value;
+        }
+
+        int hidden() {
+            return 0;
+        }
+    }
+
+    static final class Hidden {
+        public int get() {
+            return 0;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -167,6 +168,125 @@ public final class MethodLambdaTest {
         assertEquals(sum, longMethod.invoke(args));
     }
 
+    @Test
+    public void testArity() throws Throwable {
+        var p = new Pairs(10);
+        var sm = Class.class.getDeclaredMethod("sm");
+        var twoM = Pairs.class.getDeclaredMethod("two", int.class, Integer.class);
+        var threeM = Pairs.class.getDeclaredMethod("three", String.class, char.class);
+        var sixM = Arity.class.getDeclaredMethod("six", int.class, long.class, String.class, char.class, Object.class, double.class);
+        var sevenM = Arity.class.getDeclaredMethod("seven", int.class, int.class, int.class, int.class, int.class, int.class, int.class);
+        // Pack
+        var lsm = FACTORY.packMethod(sm);
+        var two = FACTORY.packMethod(twoM);
+        var three = FACTORY.packMethod(threeM);
+        var six = FACTORY.packMethod(sixM);
+        var seven = FACTORY.packMethod(sevenM);
+        // Test
+        assertAll(
+                () -> assertEquals(C_S, lsm.invoke0(null)),
+                () -> assertEquals(21, two.invoke2(p, 5, 6)),
+                () -> assertEquals("message", three.invoke2(null, "messag", 'e')),
+                () -> assertEquals("1 2 a b 3.0", six.invoke6(null, 1, 2L, "a", 'b', null, 3.0)),
+                () -> assertEquals(28, seven.invoke(new Object[]{1, 2, 3, 4, 5, 6, 7})),
+                // Generic fallback for the arity that does not match the method
+                () -> assertEquals(21, two.invoke3(p, 5, 6, null))
+        );
+    }
+
+    @Test
+    public void testPrimitiveLambdas() throws Throwable {
+        var p = new Pairs(10);
+        var chr = Common.class.getDeclaredMethod("getChar", char.class);
+        var it = Common.class.getDeclaredMethod("getInt", int.class);
+        var flt = Common.class.getDeclaredMethod("getFloat", float.class);
+        var lng = Common.class.getDeclaredMethod("getLong", long.class);
+        var sum = Arity.class.getDeclaredMethod("sum", long.class, long.class, long.class);
+        var twoM = Pairs.class.getDeclaredMethod("two", int.class, Integer.class);
+        var arr = Common.class.getDeclaredMethod("getArray", Object[].class);
+        // Pack
+        var lChar = (IntLambda) FACTORY.packMethod(chr);
+        var lInt = (IntLambda) FACTORY.packMethod(it);
+        var lFloat = (DoubleLambda) FACTORY.packMethod(flt);
+        var lLong = (LongLambda) FACTORY.packMethod(lng);
+        var lSum = (LongLambda) FACTORY.packMethod(sum);
+        var two = (IntLambda) FACTORY.packMethod(twoM);
+        var lArray = FACTORY.packMethod(arr);
+        // Test
+        assertAll(
+                () -> assertEquals('.', lChar.invokeInt(null, new Object[]{'.'})),
+                () -> assertEquals(Integer.MIN_VALUE, lInt.invokeInt(null, Integer.MIN_VALUE)),
+                () -> assertEquals(Integer.MAX_VALUE, lInt.invoke1(null, Integer.MAX_VALUE)),
+                () -> assertEquals(1.5, lFloat.invokeDouble(null, new Object[]{1.5f})),
+                () -> assertEquals(Long.MIN_VALUE, lLong.invokeLong(null, Long.MIN_VALUE)),
+                () -> assertEquals(6L, lSum.invokeLong(null, 1, 2, 3)),
+                // Reference parameters receive packed arguments
+                () -> assertEquals(21, two.invokeInt(p, 5, 6)),
+                () -> assertFalse(lArray instanceof IntLambda)
+        );
+    }
+
+    @Test
+    public void testConvertedArguments() throws Throwable {
+        var lChar = (IntLambda) FACTORY.packMethod(Common.class.getDeclaredMethod("getChar", char.class));
+        var lByte = (IntLambda) FACTORY.packMethod(Common.class.getDeclaredMethod("getByte", byte.class));
+        var lShort = (IntLambda) FACTORY.packMethod(Common.class.getDeclaredMethod("getShort", short.class));
+        var lFloat = (DoubleLambda) FACTORY.packMethod(Common.class.getDeclaredMethod("getFloat", float.class));
+        var half = (DoubleLambda) FACTORY.packMethod(Converted.class.getDeclaredMethod("half", int.class));
+        var mix = (LongLambda) FACTORY.packMethod(
+                Converted.class.getDeclaredMethod("mix", byte.class, float.class, Object.class)
+        );
+        var flag = (IntLambda) FACTORY.packMethod(Converted.class.getDeclaredMethod("flag", boolean.class));
+        assertAll(
+                () -> assertEquals('a', lChar.invokeInt(null, 'a')),
+                () -> assertEquals((char) -1, lChar.invokeInt(null, -1)),
+                () -> assertEquals(-128, lByte.invokeInt(null, 128)),
+                () -> assertEquals(7, lByte.invokeInt(null, 7)),
+                () -> assertEquals(-32768, lShort.invokeInt(null, 32768)),
+                () -> assertEquals(3.0, lFloat.invokeDouble(null, 3.0)),
+                () -> assertEquals((double) (float) 0.1, lFloat.invokeDouble(null, 0.1)),
+                () -> assertEquals(2.5, half.invokeDouble(null, 5.9)),
+                () -> assertEquals(1L + 2L + Long.hashCode(3L), mix.invokeLong(null, 1, 2, 3)),
+                () -> assertThrows(ClassCastException.class, () -> flag.invokeInt(null, 1))
+        );
+    }
+
+    @Test
+    public void testProxyNames() throws Throwable {
+        var intM = Common.class.getDeclaredMethod("getInt", int.class);
+        var longM = Common.class.getDeclaredMethod("getLong", long.class);
+        var packed = FACTORY.packMethod(intM);
+        var name = packed.getClass().getName();
+        assertAll(
+                () -> assertTrue(name.startsWith("com.github.romanqed.jeflect.lambda.proxy.")),
+                () -> assertSame(packed, FACTORY.packMethod(intM)),
+                // Names are deterministic and do not depend on the factory
+                () -> assertEquals(name, new BytecodeLambdaFactory().packMethod(intM).getClass().getName()),
+                () -> assertNotEquals(name, FACTORY.packMethod(longM).getClass().getName())
+        );
+    }
+
+    @Test
+    public void testPackMethods() throws Throwable {
+        var factory = new BytecodeLambdaFactory();
+        var it = Common.class.getDeclaredMethod("getInt", int.class);
+        var lng = Common.class.getDeclaredMethod("getLong", long.class);
+        var sm = Class.class.getDeclaredMethod("sm");
+        var single = factory.packMethod(lng);
+        // Duplicates and already packed methods are allowed
+        var packed = factory.packMethods(List.of(it, lng, sm, it));
+        assertAll(
+                () -> assertEquals(4, packed.size()),
+                () -> assertEquals(5, packed.get(0).invoke1(null, 5)),
+                () -> assertEquals(6L, packed.get(1).invoke1(null, 6L)),
+                () -> assertEquals(C_S, packed.get(2).invoke()),
+                () -> assertSame(packed.get(0), packed.get(3)),
+                () -> assertSame(single, packed.get(1)),
+                () -> assertSame(packed.get(0), factory.packMethod(it)),
+                () -> assertTrue(factory.packMethods(List.of()).isEmpty())
+        );
+    }
+
     public interface Interface {
         static int sm() {
             return I_S;
@@ -702,6 +822,20 @@ public final class MethodLambdaTest {
         }
     }
 
+    public static class Arity {
+        public static String six(int a, long b, String c, char d, Object e, double f) {
+            return a + " " + b + " " + c + " " + d + (e == null ? " " : e) + f;
+        }
+
+        public static long sum(long a, long b, long c) {
+            return a + b + c;
+        }
+
+        public static int seven(int a, int b, int c, int d, int e, int f, int g) {
+            return a + b + c + d + e + f + g;
+        }
+    }
+
     public static class ExceptClass {
         public static void throwsException() throws IOException {
             // Oh no, EXCEPTION!
@@ -767,6 +901,20 @@ public final class MethodLambdaTest {
         }
     }
 
+    public static class Converted {
+        public static double half(int a) {
+            return a / 2.0;
+        }
+
+        public static long mix(byte a, float b, Object c) {
+            return a + (long) b + c.hashCode();
+        }
+
+        public static int flag(boolean a) {
+            return a ? 1 : 0;
+        }
+    }
+
     static class InterfaceImpl implements Interface {
         @Override
         public int vm() {
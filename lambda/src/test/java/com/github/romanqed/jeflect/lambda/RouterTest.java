@@ -0,0 +1,137 @@
+package com.github.romanqed.jeflect.lambda;
+
+import com.github.romanqed.jeflect.loader.DefineClassLoader;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class RouterTest {
+
+    @Test
+    public void testDirectCalls() throws Throwable {
+        var loader = new DefineClassLoader();
+        var lambdas = new BytecodeLambdaFactory(loader);
+        var first = lambdas.packMethod(Handlers.class.getMethod("first", int.class));
+        var second = lambdas.packMethod(Handlers.class.getMethod("second", String.class));
+        var third = lambdas.packMethod(Handlers.class.getMethod("third"));
+        var router = new BytecodeRouterFactory(loader).packLambdas(List.of(first, second, third));
+        var handlers = new Handlers();
+        var fields = router.getClass().getDeclaredFields();
+        assertAll(
+                () -> assertEquals(3, router.size()),
+                () -> assertEquals(2, router.invoke(0, handlers, new Object[]{1})),
+                () -> assertEquals("Hello, World", router.invoke(1, handlers, new Object[]{"World"})),
+                () -> assertEquals(3, router.invoke(2, new Object[0])),
+                // Proxies are visible from the router loader, so they are called directly
+                () -> assertEquals(first.getClass(), fields[0].getType()),
+                () -> assertEquals(third.getClass(), fields[2].getType())
+        );
+    }
+
+    @Test
+    public void testInterfaceCalls() throws Throwable {
+        Lambda local = (instance, args) -> "local";
+        var packed = new BytecodeLambdaFactory().packMethod(Handlers.class.getMethod("third"));
+        var router = new BytecodeRouterFactory().packLambdas(List.of(local, packed));
+        var fields = router.getClass().getDeclaredFields();
+        assertAll(
+                () -> assertEquals("local", router.invoke(0, null, null)),
+                () -> assertEquals(3, router.invoke(1, null, null)),
+                // Neither class is visible from the router loader
+                () -> assertEquals(Lambda.class, fields[0].getType()),
+                () -> assertEquals(Lambda.class, fields[1].getType())
+        );
+    }
+
+    @Test
+    public void testUnknownId() {
+        var factory = new BytecodeRouterFactory();
+        var empty = factory.packLambdas(List.of());
+        var router = factory.packLambdas(List.of((Lambda) (instance, args) -> null));
+        assertAll(
+                () -> assertEquals(0, empty.size()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> empty.invoke(0, null, null)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> router.invoke(1, null, null)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> router.invoke(-1, null, null))
+        );
+    }
+
+    @Test
+    public void testSharedClass() throws Throwable {
+        var factory = new BytecodeRouterFactory();
+        var first = factory.packLambdas(List.of((Lambda) (instance, args) -> 1));
+        var second = factory.packLambdas(List.of((Lambda) (instance, args) -> 2));
+        assertAll(
+                () -> assertEquals(first.getClass(), second.getClass()),
+                () -> assertEquals(1, first.invoke(0, null, null)),
+                () -> assertEquals(2, second.invoke(0, null, null))
+        );
+    }
+
+    @Test
+    public void testMethodRouter() throws Throwable {
+        var factory = new BytecodeRouterFactory();
+        var methods = List.of(
+                Handlers.class.getMethod("first", int.class),
+                Handlers.class.getMethod("second", String.class),
+                Handlers.class.getMethod("third"),
+                Handlers.class.getMethod("fourth", long.class, double.class)
+        );
+        var router = factory.packMethods(methods);
+        var handlers = new Handlers();
+        assertAll(
+                () -> assertEquals(4, router.size()),
+                () -> assertEquals(6, router.invoke(0, handlers, new Object[]{5})),
+                () -> assertEquals("Hello, Router", router.invoke(1, handlers, new Object[]{"Router"})),
+                () -> assertEquals(3, router.invoke(2, null)),
+                () -> assertNull(router.invoke(3, handlers, new Object[]{1L, 2.5})),
+                () -> assertEquals(3.5, handlers.value),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> router.invoke(4, handlers, null)),
+                // Routers of the same methods are cached
+                () -> assertSame(router, factory.packMethods(methods))
+        );
+    }
+
+    @Test
+    public void testPackClass() throws Throwable {
+        var lambdas = new BytecodeRouterFactory().packClass(Handlers.class);
+        var handlers = new Handlers();
+        var first = lambdas.get(Handlers.class.getMethod("first", int.class));
+        var third = lambdas.get(Handlers.class.getMethod("third"));
+        assertAll(
+                () -> assertEquals(4, lambdas.size()),
+                () -> assertEquals(11, first.invoke(handlers, new Object[]{10})),
+                () -> assertEquals(11, first.invoke1(handlers, 10)),
+                () -> assertEquals(3, third.invoke()),
+                // Methods are ordered by name
+                () -> assertEquals(List.of("first", "fourth", "second", "third"),
+                        lambdas.keySet().stream().map(Method::getName).collect(Collectors.toList())),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> new BytecodeRouterFactory()
+                        .packLambdas(List.of()).getLambda(0))
+        );
+    }
+
+    public static final class Handlers {
+        double value;
+
+        public static int third() {
+            return 3;
+        }
+
+        public int first(int value) {
+            return value + 1;
+        }
+
+        public String second(String name) {
+            return "Hello, " + name;
+        }
+
+        public void fourth(long a, double b) {
+            value = a + b;
+        }
+    }
+}
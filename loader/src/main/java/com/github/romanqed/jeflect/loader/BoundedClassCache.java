@@ -0,0 +1,192 @@
+package com.github.romanqed.jeflect.loader;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An in-memory {@link ClassCache} implementation that bounds the total size of stored bytecode.
+ * <p>
+ * The cache is split into independently locked stripes, each of which owns an equal part of the capacity
+ * and evicts its least recently used entries when the part is exceeded. The number of stripes is limited
+ * so that each of them holds at least 64 KiB (or the whole capacity, if it is smaller), so a small cache
+ * consists of a single stripe. Bytecode larger than the capacity of a stripe is not stored at all.
+ * <p>
+ * The cache counts hits, misses and evictions, which can be used to size it against the heap.
+ */
+public final class BoundedClassCache implements ClassCache {
+    private static final int DEFAULT_CONCURRENCY = 16;
+    private static final long MIN_STRIPE_CAPACITY = 64 * 1024;
+    private final Stripe[] stripes;
+    private final long capacity;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Constructs a new {@code BoundedClassCache}.
+     *
+     * @param capacity    the maximum total size of stored bytecode, in bytes
+     * @param concurrency the expected number of concurrently accessing threads,
+     *                    rounded up to the nearest power of two to get the number of stripes,
+     *                    which is then limited by the capacity
+     * @throws IllegalArgumentException if {@code capacity} or {@code concurrency} is not positive
+     */
+    public BoundedClassCache(long capacity, int concurrency) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        var count = Integer.highestOneBit(Math.min(concurrency, 1 << 16) * 2 - 1);
+        // Keep stripes large enough to store big classes
+        var limit = Math.max(1, capacity / MIN_STRIPE_CAPACITY);
+        while (count > limit) {
+            count >>>= 1;
+        }
+        this.stripes = new Stripe[count];
+        for (var i = 0; i < count; ++i) {
+            // Distribute remainder over the first stripes
+            stripes[i] = new Stripe(capacity / count + (i < capacity % count ? 1 : 0));
+        }
+        this.capacity = capacity;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Constructs a new {@code BoundedClassCache} with the default concurrency level.
+     *
+     * @param capacity the maximum total size of stored bytecode, in bytes
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public BoundedClassCache(long capacity) {
+        this(capacity, DEFAULT_CONCURRENCY);
+    }
+
+    private Stripe getStripe(String name) {
+        var hash = name.hashCode();
+        // Spread higher bits, since the number of stripes is small
+        hash ^= hash >>> 16;
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    @Override
+    public byte[] get(String name) {
+        var stripe = getStripe(name);
+        byte[] ret;
+        synchronized (stripe) {
+            ret = stripe.map.get(name);
+        }
+        if (ret == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return ret;
+    }
+
+    @Override
+    public void set(String name, byte[] buffer) {
+        var stripe = getStripe(name);
+        var evicted = 0;
+        synchronized (stripe) {
+            var old = stripe.map.remove(name);
+            if (old != null) {
+                stripe.size -= old.length;
+            }
+            if (buffer.length > stripe.capacity) {
+                return;
+            }
+            stripe.map.put(name, buffer);
+            stripe.size += buffer.length;
+            // Evict the least recently used entries
+            var iterator = stripe.map.values().iterator();
+            while (stripe.size > stripe.capacity) {
+                stripe.size -= iterator.next().length;
+                iterator.remove();
+                ++evicted;
+            }
+        }
+        evictions.add(evicted);
+    }
+
+    /**
+     * Returns the maximum total size of stored bytecode.
+     *
+     * @return the capacity, in bytes
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the current total size of stored bytecode.
+     *
+     * @return the size, in bytes
+     */
+    public long getSize() {
+        var ret = 0L;
+        for (var stripe : stripes) {
+            synchronized (stripe) {
+                ret += stripe.size;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the number of stored classes.
+     *
+     * @return the number of stored classes
+     */
+    public int getCount() {
+        var ret = 0;
+        for (var stripe : stripes) {
+            synchronized (stripe) {
+                ret += stripe.map.size();
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the number of lookups that found the bytecode.
+     *
+     * @return the number of {@link #get(String)} calls that found the bytecode
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find the bytecode.
+     *
+     * @return the number of {@link #get(String)} calls that did not find the bytecode
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of evicted classes.
+     *
+     * @return the number of entries evicted to keep the size within the capacity
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private static final class Stripe {
+        private final LinkedHashMap<String, byte[]> map;
+        private final long capacity;
+        private long size;
+
+        private Stripe(long capacity) {
+            // Access order makes the eldest entry the least recently used one
+            this.map = new LinkedHashMap<>(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.romanqed.jeflect.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
+
+/**
+ * A utility class that finds the names of classes in class directories and jar files,
+ * used to declare the targets of build-time generation.
+ * <p>
+ * Only class files are inspected, no class is loaded. {@code module-info}, {@code package-info}
+ * and {@code META-INF} entries are skipped.
+ */
+public final class ClassScanner {
+    private static final String CLASS_EXTENSION = ".class";
+    private static final String JAR_EXTENSION = ".jar";
+    private static final String WILDCARD = "*";
+    private static final String PACKAGE_WILDCARD = ".*";
+    private static final String META_INF = "META-INF/";
+    private final List<Path> classPath;
+
+    /**
+     * Constructs a new {@code ClassScanner} inspecting the specified class path entries.
+     *
+     * @param classPath the class directories and jar files
+     * @throws NullPointerException if {@code classPath} is {@code null}
+     */
+    public ClassScanner(List<Path> classPath) {
+        this.classPath = List.copyOf(classPath);
+    }
+
+    /**
+     * Constructs a new {@code ClassScanner} inspecting the entries of the {@code java.class.path} property.
+     */
+    public ClassScanner() {
+        this(parseClassPath(System.getProperty("java.class.path", "")));
+    }
+
+    private static List<Path> parseClassPath(String value) {
+        var ret = new ArrayList<Path>();
+        for (var entry : value.split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                ret.add(Path.of(entry));
+            }
+        }
+        return ret;
+    }
+
+    private static void addClass(String entry, String prefix, TreeSet<String> names) {
+        if (!entry.endsWith(CLASS_EXTENSION) || !entry.startsWith(prefix) || entry.startsWith(META_INF)) {
+            return;
+        }
+        var name = entry.substring(0, entry.length() - CLASS_EXTENSION.length()).replace('/', '.');
+        if (name.endsWith("module-info") || name.endsWith("package-info")) {
+            return;
+        }
+        names.add(name);
+    }
+
+    private static void scanDirectory(Path root, String prefix, TreeSet<String> names) throws IOException {
+        var start = root.resolve(prefix);
+        if (!Files.isDirectory(start)) {
+            return;
+        }
+        try (var files = Files.walk(start)) {
+            files.filter(Files::isRegularFile).forEach(file -> {
+                var entry = root.relativize(file).toString().replace(File.separatorChar, '/');
+                addClass(entry, prefix, names);
+            });
+        }
+    }
+
+    private static void scanJar(Path path, String prefix, TreeSet<String> names) throws IOException {
+        try (var jar = new JarFile(path.toFile())) {
+            var entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                addClass(entries.nextElement().getName(), prefix, names);
+            }
+        }
+    }
+
+    /**
+     * Finds the names of all classes in the specified package and its subpackages.
+     *
+     * @param pkg the package name, or an empty string to find all classes
+     * @return the sorted list of binary class names, including nested classes
+     * @throws UncheckedIOException if a class path entry cannot be read
+     */
+    public List<String> scan(String pkg) {
+        Objects.requireNonNull(pkg);
+        var prefix = pkg.isEmpty() ? "" : pkg.replace('.', '/') + '/';
+        var ret = new TreeSet<String>();
+        try {
+            for (var entry : classPath) {
+                if (Files.isDirectory(entry)) {
+                    scanDirectory(entry, prefix, ret);
+                } else if (Files.isRegularFile(entry) && entry.toString().endsWith(JAR_EXTENSION)) {
+                    scanJar(entry, prefix, ret);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ArrayList<>(ret);
+    }
+
+    /**
+     * Resolves the declared generation targets into class names.
+     * A target ending with {@code .*} denotes a package with its subpackages, {@code *} denotes all classes,
+     * any other target is a class name.
+     *
+     * @param targets the declared targets
+     * @return the list of class names without duplicates, in the order of targets
+     * @throws UncheckedIOException if a class path entry cannot be read
+     */
+    public List<String> resolve(List<String> targets) {
+        var ret = new LinkedHashSet<String>();
+        for (var target : targets) {
+            if (target.equals(WILDCARD)) {
+                ret.addAll(scan(""));
+            } else if (target.endsWith(PACKAGE_WILDCARD)) {
+                ret.addAll(scan(target.substring(0, target.length() - PACKAGE_WILDCARD.length())));
+            } else {
+                ret.add(target);
+            }
+        }
+        return new ArrayList<>(ret);
+    }
+}
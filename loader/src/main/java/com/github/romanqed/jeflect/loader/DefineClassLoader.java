@@ -1,12 +1,31 @@
 package com.github.romanqed.jeflect.loader;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * The default {@link DefineLoader} implementation used by the lambda factory.
  * <p>
  * This class extends {@link ClassLoader} and provides capabilities for defining and loading
  * classes dynamically from bytecode at runtime.
+ * <p>
+ * Classes defined by this loader or by its {@code DefineClassLoader} ancestors are registered
+ * and returned by {@link #load(String)} directly, without delegating to the parent.
+ * If the rest of the parent chain consists of built-in class loaders, names that are not available
+ * as class files are reported as missing without constructing {@link ClassNotFoundException};
+ * other parent loaders are always asked with {@link #loadClass(String)}.
+ * <p>
+ * The loader is parallel capable: loading and defining are synchronized per class name,
+ * so different classes can be defined from multiple threads at the same time.
  */
 public final class DefineClassLoader extends ClassLoader implements DefineLoader {
+    private static final String CLASS_EXTENSION = ".class";
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new {@code DefineClassLoader} with the system class loader as its parent.
@@ -24,13 +43,57 @@ public final class DefineClassLoader extends ClassLoader implements DefineLoader
         super(parent);
     }
 
+    /**
+     * Defines a class in memory and returns its instance.
+     * If a class with the same name has already been defined by this loader, it is returned instead.
+     *
+     * @param name   the name with which the class will be defined
+     * @param buffer buffer containing the byte code of the class
+     * @return the {@link Class} containing the loaded class
+     */
     @Override
     public Class<?> define(String name, byte[] buffer) {
-        return defineClass(name, buffer, 0, buffer.length);
+        synchronized (getClassLoadingLock(name)) {
+            var ret = classes.get(name);
+            if (ret != null) {
+                return ret;
+            }
+            ret = defineClass(name, buffer, 0, buffer.length);
+            classes.put(name, ret);
+            return ret;
+        }
+    }
+
+    private static boolean isBuiltin(ClassLoader loader) {
+        // Built-in loaders belong to java.base and find classes only by their class files
+        return loader == null || loader.getClass().getModule() == ClassLoader.class.getModule();
     }
 
     @Override
     public Class<?> load(String name) {
+        var ret = classes.get(name);
+        if (ret != null) {
+            return ret;
+        }
+        ret = findLoadedClass(name);
+        if (ret != null) {
+            return ret;
+        }
+        // Classes defined by ancestor loaders at runtime have no class files, so look them up directly
+        var parent = getParent();
+        while (parent instanceof DefineClassLoader) {
+            var loader = (DefineClassLoader) parent;
+            ret = loader.classes.get(name);
+            if (ret != null) {
+                return ret;
+            }
+            parent = loader.getParent();
+        }
+        // If the rest of the chain consists of built-in loaders and there is no class file,
+        // delegation can only end with an exception, so skip it
+        if (isBuiltin(parent) && getResource(name.replace('.', '/') + CLASS_EXTENSION) == null) {
+            return null;
+        }
         try {
             return loadClass(name);
         } catch (ClassNotFoundException e) {
@@ -3,17 +3,38 @@ package com.github.romanqed.jeflect.loader;
 import com.github.romanqed.jfunc.Exceptions;
 import com.github.romanqed.jfunc.Function1;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 /**
  * An implementation of {@link ObjectFactory} that uses a {@link DefineLoader}
  * to define and instantiate objects from bytecode at runtime.
+ * <p>
+ * Objects created with the default no-arg constructor are expected to be stateless,
+ * so they are cached by class name and the same instance is returned for repeated calls.
+ * <p>
+ * Class generation is single-flight: if several threads request the same missing class at the same time,
+ * only one of them generates and defines it, while the others wait for the result.
+ * Requests for different classes proceed in parallel.
+ * <p>
+ * Batch creation generates the bytecode of all missing classes in parallel on the common fork-join pool,
+ * and then defines them in a single pass.
  *
  * @param <T> the type of objects produced by this factory
  */
 public final class DefineObjectFactory<T> implements ObjectFactory<T> {
     private final DefineLoader loader;
+    private final Map<String, T> objects;
+    private final Map<String, CompletableFuture<Class<?>>> classes;
 
     /**
      * Constructs a new factory with the given {@link DefineLoader}.
@@ -23,6 +44,8 @@ public final class DefineObjectFactory<T> implements ObjectFactory<T> {
      */
     public DefineObjectFactory(DefineLoader loader) {
         this.loader = Objects.requireNonNull(loader);
+        this.objects = new ConcurrentHashMap<>();
+        this.classes = new ConcurrentHashMap<>();
     }
 
     /**
@@ -34,14 +57,101 @@ public final class DefineObjectFactory<T> implements ObjectFactory<T> {
         return loader;
     }
 
+    private Class<?> loadClass(String name, Callable<byte[]> provider) throws Throwable {
+        var future = classes.get(name);
+        if (future == null) {
+            var created = new CompletableFuture<Class<?>>();
+            future = classes.putIfAbsent(name, created);
+            if (future == null) {
+                // This thread is the first one, so it is responsible for the class
+                try {
+                    var clazz = loader.load(name);
+                    if (clazz == null) {
+                        var bytes = provider.call();
+                        clazz = loader.define(name, bytes);
+                    }
+                    created.complete(clazz);
+                    return clazz;
+                } catch (Throwable e) {
+                    // Allow subsequent calls to retry
+                    classes.remove(name, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static byte[][] generate(List<String> names, Map<String, Callable<byte[]>> providers) {
+        var ret = new byte[names.size()][];
+        // Parallel streams are executed on the common fork-join pool
+        IntStream.range(0, ret.length).parallel().forEach(i -> {
+            try {
+                ret[i] = providers.get(names.get(i)).call();
+            } catch (Throwable e) {
+                Exceptions.throwAny(e);
+            }
+        });
+        return ret;
+    }
+
+    private void loadClasses(Map<String, Callable<byte[]>> providers) {
+        // Take responsibility for all classes that are not being loaded by other threads
+        var owned = new LinkedHashMap<String, CompletableFuture<Class<?>>>();
+        for (var name : providers.keySet()) {
+            if (objects.containsKey(name) || classes.containsKey(name)) {
+                continue;
+            }
+            var created = new CompletableFuture<Class<?>>();
+            if (classes.putIfAbsent(name, created) == null) {
+                owned.put(name, created);
+            }
+        }
+        try {
+            var missing = new ArrayList<String>();
+            for (var entry : owned.entrySet()) {
+                var clazz = loader.load(entry.getKey());
+                if (clazz == null) {
+                    missing.add(entry.getKey());
+                } else {
+                    entry.getValue().complete(clazz);
+                }
+            }
+            var buffers = generate(missing, providers);
+            for (var i = 0; i < buffers.length; ++i) {
+                var name = missing.get(i);
+                owned.get(name).complete(loader.define(name, buffers[i]));
+            }
+        } catch (Throwable e) {
+            // Allow subsequent calls to retry
+            owned.forEach((name, future) -> {
+                if (!future.isDone()) {
+                    classes.remove(name, future);
+                    future.completeExceptionally(e);
+                }
+            });
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, T> create(Map<String, Callable<byte[]>> providers) {
+        loadClasses(providers);
+        // All classes are loaded or being loaded by other threads, so just instantiate them
+        var ret = new HashMap<String, T>();
+        providers.forEach((name, provider) -> ret.put(name, create(name, provider)));
+        return ret;
+    }
+
     @Override
     public T create(String name, Callable<byte[]> provider, Function1<Class<?>, ? extends T> creator) {
-        var clazz = this.loader.load(name);
         try {
-            if (clazz == null) {
-                var bytes = provider.call();
-                clazz = this.loader.define(name, bytes);
-            }
+            var clazz = loadClass(name, provider);
             return creator.invoke(clazz);
         } catch (Throwable e) {
             Exceptions.throwAny(e);
@@ -53,8 +163,15 @@ public final class DefineObjectFactory<T> implements ObjectFactory<T> {
     @Override
     @SuppressWarnings("unchecked")
     public T create(String name, Callable<byte[]> provider) {
-        return create(name, provider, clazz ->
+        var ret = objects.get(name);
+        if (ret != null) {
+            return ret;
+        }
+        ret = create(name, provider, clazz ->
                 (T) clazz.getConstructor((Class<?>[]) null).newInstance((Object[]) null)
         );
+        // If another thread has already created the object, use it
+        var present = objects.putIfAbsent(name, ret);
+        return present == null ? ret : present;
     }
 }
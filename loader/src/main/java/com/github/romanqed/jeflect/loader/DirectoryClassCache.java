@@ -0,0 +1,77 @@
+package com.github.romanqed.jeflect.loader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+/**
+ * A persistent {@link ClassCache} implementation that stores bytecode as {@code .class} files
+ * in a class directory layout (e.g. {@code com/example/MyClass.class}).
+ * <p>
+ * Since the generated classes have deterministic names, the directory filled by this cache during the build
+ * can be packed into the application jar or added to the classpath. After that, {@link DefineClassLoader}
+ * finds the pre-generated classes through its parent and no bytecode is generated at runtime.
+ * <p>
+ * Files are written atomically, so concurrent writers and readers never observe a partially written class.
+ */
+public final class DirectoryClassCache implements ClassCache {
+    private static final String CLASS_EXTENSION = ".class";
+    private final Path root;
+
+    /**
+     * Constructs a new {@code DirectoryClassCache}.
+     *
+     * @param root the root of the class directory, created on the first write if it does not exist
+     * @throws NullPointerException if {@code root} is {@code null}
+     */
+    public DirectoryClassCache(Path root) {
+        this.root = Objects.requireNonNull(root);
+    }
+
+    /**
+     * Returns the root of the class directory.
+     *
+     * @return the root path
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    private Path resolve(String name) {
+        return root.resolve(name.replace('.', '/') + CLASS_EXTENSION);
+    }
+
+    @Override
+    public byte[] get(String name) {
+        try {
+            return Files.readAllBytes(resolve(name));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void set(String name, byte[] buffer) {
+        var path = resolve(name);
+        try {
+            var parent = path.getParent();
+            Files.createDirectories(parent);
+            // Write to a temporary file first, so readers never see an incomplete class
+            var temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, buffer);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
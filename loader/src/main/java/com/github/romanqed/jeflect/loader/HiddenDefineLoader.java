@@ -0,0 +1,59 @@
+package com.github.romanqed.jeflect.loader;
+
+/**
+ * A {@link DefineLoader} implementation that defines classes as hidden classes
+ * using {@link java.lang.invoke.MethodHandles.Lookup#defineHiddenClass}.
+ * <p>
+ * Hidden classes are not strongly bound to their class loader, so they become eligible for unloading
+ * as soon as there are no references to them or their instances. Since hidden classes cannot be found by name,
+ * {@link #load(String)} always returns {@code null}; use {@link WeakObjectFactory} to reuse created objects.
+ * The bytecode factories pick it automatically when constructed with a {@code HiddenDefineLoader},
+ * see {@link ObjectFactory#of(DefineLoader)}. A {@link DefineObjectFactory} keeps strong references
+ * to created objects, so hidden classes defined through it are never unloaded.
+ * <p>
+ * Defined classes resolve the classes they reference through the parent class loader only.
+ * The no-arg constructor uses the system class loader, which cannot see classes of plugins
+ * or containers with their own class loaders; pass their class loader explicitly in such environments.
+ * <p>
+ * Hidden classes are available since Java 15. On earlier versions all constructors of this class
+ * throw {@link UnsupportedOperationException}.
+ */
+public final class HiddenDefineLoader implements DefineLoader {
+
+    /**
+     * Constructs a new {@code HiddenDefineLoader}, whose classes can access the classes
+     * visible from the specified class loader.
+     *
+     * @param parent the class loader used to resolve classes referenced by defined classes
+     * @throws UnsupportedOperationException if hidden classes are not supported by the runtime
+     */
+    public HiddenDefineLoader(ClassLoader parent) {
+        throw new UnsupportedOperationException("Hidden classes are supported since Java 15");
+    }
+
+    /**
+     * Constructs a new {@code HiddenDefineLoader}, whose classes can access the classes
+     * visible from the system class loader. Classes loaded by other class loaders,
+     * such as plugin classes, cannot be accessed.
+     *
+     * @throws UnsupportedOperationException if hidden classes are not supported by the runtime
+     */
+    public HiddenDefineLoader() {
+        this(ClassLoader.getSystemClassLoader());
+    }
+
+    @Override
+    public Class<?> define(String name, byte[] buffer) {
+        throw new UnsupportedOperationException("Hidden classes are supported since Java 15");
+    }
+
+    @Override
+    public Class<?> load(String name) {
+        throw new UnsupportedOperationException("Hidden classes are supported since Java 15");
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        throw new UnsupportedOperationException("Hidden classes are supported since Java 15");
+    }
+}
@@ -0,0 +1,278 @@
+package com.github.romanqed.jeflect.loader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * A persistent {@link ClassCache} implementation backed by an append-only segment file.
+ * <p>
+ * Each record of the file contains a class name, its bytecode and their CRC32 checksum. When the cache is opened,
+ * records are scanned and verified to build an in-memory index, and the file is mapped into memory,
+ * so reading the bytecode requires only a single copy from the mapped segment.
+ * New records are appended to the end of the file; if a class is stored several times,
+ * the latest record wins. An incomplete or corrupted record (for example, after a crash during writing)
+ * is discarded together with all records following it.
+ * <p>
+ * The cache is thread-safe. Reads are lock-free unless the mapping needs to be extended.
+ * Opening and appending hold an exclusive file lock, so the file can be shared by several processes:
+ * records appended by other processes are picked up before appending. A file in an outdated format
+ * is replaced by a new file rather than truncated, so processes still mapping the old file are not affected.
+ * Within a single JVM the file must be opened by only one instance at a time.
+ */
+public final class MappedClassCache implements ClassCache, Closeable {
+    private static final int MAGIC = 0x4A464343;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 3;
+    private final Path path;
+    private final Map<String, Entry> index;
+    private FileChannel channel;
+    private volatile MappedByteBuffer mapped;
+    private long size;
+
+    /**
+     * Opens the cache file, creating it if it does not exist.
+     * A cache file written by another version of the format is replaced by an empty one.
+     *
+     * @param path the path to the cache file
+     * @throws IOException if an I/O error occurs or the file is not a cache file
+     */
+    public MappedClassCache(Path path) throws IOException {
+        this.path = path;
+        this.index = new ConcurrentHashMap<>();
+        this.channel = open(path);
+        try {
+            var lock = channel.lock();
+            try {
+                init();
+            } finally {
+                // The lock is already released if the file was replaced
+                if (lock.isValid()) {
+                    lock.release();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        );
+    }
+
+    private static ByteBuffer createHeader() {
+        return ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+    }
+
+    private static int checksum(ByteBuffer buffer, int position, int length) {
+        var crc = new CRC32();
+        crc.update(buffer.duplicate().position(position).limit(position + length));
+        return (int) crc.getValue();
+    }
+
+    private void init() throws IOException {
+        var length = channel.size();
+        if (length >= HEADER_SIZE) {
+            var header = ByteBuffer.allocate(HEADER_SIZE);
+            read(header, 0);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Invalid cache file");
+            }
+            if (header.getInt(Integer.BYTES) != VERSION) {
+                replace();
+            } else {
+                this.size = HEADER_SIZE;
+                scan(length);
+                return;
+            }
+        } else {
+            // New or broken file, write header
+            channel.truncate(0);
+            write(createHeader(), 0);
+        }
+        this.size = HEADER_SIZE;
+        this.mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    private void replace() throws IOException {
+        // Other processes may still map the outdated file, so it is atomically replaced instead of truncating
+        var directory = path.toAbsolutePath().getParent();
+        var temporary = Files.createTempFile(directory, path.getFileName().toString(), null);
+        try {
+            Files.write(temporary, createHeader().array());
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        var old = channel;
+        this.channel = open(path);
+        old.close();
+    }
+
+    private void scan(long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Cache file is too large");
+        }
+        var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        // Scan and verify records from the end of the known part
+        var position = (int) size;
+        while (position + RECORD_HEADER_SIZE <= length) {
+            var nameLength = buffer.getInt(position);
+            var bufferLength = buffer.getInt(position + Integer.BYTES);
+            var crc = buffer.getInt(position + Integer.BYTES * 2);
+            var start = position + RECORD_HEADER_SIZE;
+            var end = (long) start + nameLength + bufferLength;
+            if (nameLength < 0 || bufferLength < 0 || end > length
+                    || checksum(buffer, start, nameLength + bufferLength) != crc) {
+                break;
+            }
+            var name = new byte[nameLength];
+            buffer.duplicate().position(start).get(name);
+            index.put(new String(name, StandardCharsets.UTF_8), new Entry(start + nameLength, bufferLength));
+            position = (int) end;
+        }
+        // Discard incomplete or corrupted records, if any
+        if (position < length) {
+            channel.truncate(position);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, position);
+        }
+        this.size = position;
+        this.mapped = buffer;
+    }
+
+    private void read(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            var read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of cache file");
+            }
+            position += read;
+        }
+    }
+
+    private void write(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private synchronized MappedByteBuffer remap(long required) throws IOException {
+        var ret = mapped;
+        if (ret.capacity() >= required) {
+            return ret;
+        }
+        ret = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        mapped = ret;
+        return ret;
+    }
+
+    @Override
+    public byte[] get(String name) {
+        var entry = index.get(name);
+        if (entry == null) {
+            return null;
+        }
+        var buffer = mapped;
+        var end = entry.offset + entry.length;
+        try {
+            if (buffer.capacity() < end) {
+                buffer = remap(end);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        var ret = new byte[entry.length];
+        buffer.duplicate().position(entry.offset).get(ret);
+        return ret;
+    }
+
+    @Override
+    public synchronized void set(String name, byte[] buffer) {
+        var encoded = name.getBytes(StandardCharsets.UTF_8);
+        var length = RECORD_HEADER_SIZE + encoded.length + buffer.length;
+        var record = ByteBuffer.allocate(length)
+                .putInt(encoded.length)
+                .putInt(buffer.length)
+                .putInt(0)
+                .put(encoded)
+                .put(buffer)
+                .flip();
+        record.putInt(Integer.BYTES * 2, checksum(record, RECORD_HEADER_SIZE, encoded.length + buffer.length));
+        try {
+            var lock = channel.lock();
+            try {
+                append(record, name, buffer.length);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(ByteBuffer record, String name, int length) throws IOException {
+        // Pick up records appended by other processes
+        var current = channel.size();
+        if (current < size) {
+            throw new IOException("Cache file was truncated");
+        }
+        if (current > size) {
+            scan(current);
+        }
+        var end = size + record.remaining();
+        if (end > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Cache file is full");
+        }
+        write(record, size);
+        index.put(name, new Entry((int) end - length, length));
+        size = end;
+    }
+
+    /**
+     * Returns the number of classes stored in the cache.
+     *
+     * @return the number of stored classes
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Closes the underlying file. The mapped segment is released when it is garbage collected.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static final class Entry {
+        private final int offset;
+        private final int length;
+
+        private Entry(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
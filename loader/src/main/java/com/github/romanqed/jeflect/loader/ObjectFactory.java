@@ -2,6 +2,8 @@ package com.github.romanqed.jeflect.loader;
 
 import com.github.romanqed.jfunc.Function1;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 /**
@@ -11,6 +13,24 @@ import java.util.concurrent.Callable;
  */
 public interface ObjectFactory<T> {
 
+    /**
+     * Creates an object factory suitable for the specified {@link DefineLoader}.
+     * <p>
+     * For a {@link HiddenDefineLoader} a {@link WeakObjectFactory} is returned, so the defined hidden classes
+     * stay eligible for unloading; for any other loader a {@link DefineObjectFactory} is returned.
+     *
+     * @param loader the loader used to define and load classes
+     * @param <T>    type of produced objects
+     * @return the object factory
+     * @throws NullPointerException if {@code loader} is {@code null}
+     */
+    static <T> ObjectFactory<T> of(DefineLoader loader) {
+        if (loader instanceof HiddenDefineLoader) {
+            return new WeakObjectFactory<>(loader);
+        }
+        return new DefineObjectFactory<>(loader);
+    }
+
     /**
      * Creates a class object with the specified name,
      * and if there are no loaded classes in the pool,
@@ -35,4 +55,20 @@ public interface ObjectFactory<T> {
      * @throws RuntimeException if there are problems during the search, generation or instantiation of the class
      */
     T create(String name, Callable<byte[]> provider);
+
+    /**
+     * Creates class objects for all specified names at once,
+     * and creates missing classes from bytes received from the corresponding providers.
+     * <p>
+     * The default implementation calls {@link #create(String, Callable)} for each name.
+     *
+     * @param providers class names mapped to byte code generators used in the absence of classes
+     * @return class names mapped to created objects
+     * @throws RuntimeException if there are problems during the search, generation or instantiation of any class
+     */
+    default Map<String, T> create(Map<String, Callable<byte[]>> providers) {
+        var ret = new HashMap<String, T>();
+        providers.forEach((name, provider) -> ret.put(name, create(name, provider)));
+        return ret;
+    }
 }
@@ -0,0 +1,97 @@
+package com.github.romanqed.jeflect.loader;
+
+import com.github.romanqed.jfunc.Exceptions;
+import com.github.romanqed.jfunc.Function1;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An implementation of {@link ObjectFactory} that does not keep strong references
+ * to the created objects and their classes.
+ * <p>
+ * Objects created with the default no-arg constructor are cached by class name using weak references,
+ * so the same instance is returned while it is reachable. Together with {@link HiddenDefineLoader}
+ * this allows generated classes to be unloaded as soon as their instances become unreachable.
+ *
+ * @param <T> the type of objects produced by this factory
+ */
+public final class WeakObjectFactory<T> implements ObjectFactory<T> {
+    private final DefineLoader loader;
+    private final Map<String, NamedReference<T>> objects;
+    private final ReferenceQueue<T> queue;
+
+    /**
+     * Constructs a new factory with the given {@link DefineLoader}.
+     *
+     * @param loader the class loader used to define and load classes
+     * @throws NullPointerException if {@code loader} is {@code null}
+     */
+    public WeakObjectFactory(DefineLoader loader) {
+        this.loader = Objects.requireNonNull(loader);
+        this.objects = new ConcurrentHashMap<>();
+        this.queue = new ReferenceQueue<>();
+    }
+
+    /**
+     * Returns the {@link DefineLoader} used by this factory.
+     *
+     * @return the associated {@link DefineLoader}
+     */
+    public DefineLoader getLoader() {
+        return loader;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expunge() {
+        NamedReference<T> reference;
+        while ((reference = (NamedReference<T>) queue.poll()) != null) {
+            objects.remove(reference.name, reference);
+        }
+    }
+
+    @Override
+    public T create(String name, Callable<byte[]> provider, Function1<Class<?>, ? extends T> creator) {
+        try {
+            var clazz = loader.load(name);
+            if (clazz == null) {
+                var bytes = provider.call();
+                clazz = loader.define(name, bytes);
+            }
+            return creator.invoke(clazz);
+        } catch (Throwable e) {
+            Exceptions.throwAny(e);
+            // Unreachable code to suppress javac error
+            return null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T create(String name, Callable<byte[]> provider) {
+        expunge();
+        var reference = objects.get(name);
+        var ret = reference == null ? null : reference.get();
+        if (ret != null) {
+            return ret;
+        }
+        ret = create(name, provider, clazz ->
+                (T) clazz.getConstructor((Class<?>[]) null).newInstance((Object[]) null)
+        );
+        objects.put(name, new NamedReference<>(name, ret, queue));
+        return ret;
+    }
+
+    private static final class NamedReference<T> extends WeakReference<T> {
+        private final String name;
+
+        private NamedReference(String name, T referent, ReferenceQueue<T> queue) {
+            super(referent, queue);
+            this.name = name;
+        }
+    }
+}
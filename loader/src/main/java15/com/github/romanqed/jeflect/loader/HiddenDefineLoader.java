@@ -0,0 +1,175 @@
+package com.github.romanqed.jeflect.loader;
+
+import com.github.romanqed.jfunc.Exceptions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link DefineLoader} implementation that defines classes as hidden classes
+ * using {@link java.lang.invoke.MethodHandles.Lookup#defineHiddenClass}.
+ * <p>
+ * Hidden classes are not strongly bound to their class loader, so they become eligible for unloading
+ * as soon as there are no references to them or their instances. Since hidden classes cannot be found by name,
+ * {@link #load(String)} always returns {@code null}; use {@link WeakObjectFactory} to reuse created objects.
+ * The bytecode factories pick it automatically when constructed with a {@code HiddenDefineLoader},
+ * see {@link ObjectFactory#of(DefineLoader)}. A {@link DefineObjectFactory} keeps strong references
+ * to created objects, so hidden classes defined through it are never unloaded.
+ * <p>
+ * Defined classes resolve the classes they reference through the parent class loader only.
+ * The no-arg constructor uses the system class loader, which cannot see classes of plugins
+ * or containers with their own class loaders; pass their class loader explicitly in such environments.
+ * <p>
+ * Hidden classes are available since Java 15. On earlier versions all constructors of this class
+ * throw {@link UnsupportedOperationException}.
+ */
+public final class HiddenDefineLoader implements DefineLoader {
+    private static final String ANCHOR = "$Anchor";
+    private static final String LOOKUP = "lookup";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String METHOD_HANDLES = "java/lang/invoke/MethodHandles";
+    private static final String LOOKUP_DESCRIPTOR = "()Ljava/lang/invoke/MethodHandles$Lookup;";
+    private static final String CODE = "Code";
+    // Class file constants
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int VERSION = 55;
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_METHOD = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int INVOKESTATIC = 0xB8;
+    private static final int ARETURN = 0xB0;
+    private final DefineClassLoader loader;
+    private final Map<String, MethodHandles.Lookup> lookups;
+
+    /**
+     * Constructs a new {@code HiddenDefineLoader}, whose classes can access the classes
+     * visible from the specified class loader.
+     *
+     * @param parent the class loader used to resolve classes referenced by defined classes
+     * @throws UnsupportedOperationException if hidden classes are not supported by the runtime
+     */
+    public HiddenDefineLoader(ClassLoader parent) {
+        this.loader = new DefineClassLoader(Objects.requireNonNull(parent));
+        this.lookups = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Constructs a new {@code HiddenDefineLoader}, whose classes can access the classes
+     * visible from the system class loader. Classes loaded by other class loaders,
+     * such as plugin classes, cannot be accessed.
+     *
+     * @throws UnsupportedOperationException if hidden classes are not supported by the runtime
+     */
+    public HiddenDefineLoader() {
+        this(ClassLoader.getSystemClassLoader());
+    }
+
+    private static byte[] createAnchor(String name) throws IOException {
+        // The anchor is a public final class with the only method:
+        // public static Lookup lookup() { return MethodHandles.lookup(); }
+        // It is easier to write it by hand than to depend on bytecode library
+        var ret = new ByteArrayOutputStream();
+        try (var output = new DataOutputStream(ret)) {
+            output.writeInt(MAGIC);
+            output.writeShort(0);
+            output.writeShort(VERSION);
+            // Constant pool
+            output.writeShort(12);
+            // #1, #2: this class
+            output.writeByte(CONSTANT_CLASS);
+            output.writeShort(2);
+            output.writeByte(CONSTANT_UTF8);
+            output.writeUTF(name.replace('.', '/'));
+            // #3, #4: super class
+            output.writeByte(CONSTANT_CLASS);
+            output.writeShort(4);
+            output.writeByte(CONSTANT_UTF8);
+            output.writeUTF(OBJECT);
+            // #5, #6: MethodHandles class
+            output.writeByte(CONSTANT_CLASS);
+            output.writeShort(6);
+            output.writeByte(CONSTANT_UTF8);
+            output.writeUTF(METHOD_HANDLES);
+            // #7, #8, #9: lookup method name and type
+            output.writeByte(CONSTANT_NAME_AND_TYPE);
+            output.writeShort(8);
+            output.writeShort(9);
+            output.writeByte(CONSTANT_UTF8);
+            output.writeUTF(LOOKUP);
+            output.writeByte(CONSTANT_UTF8);
+            output.writeUTF(LOOKUP_DESCRIPTOR);
+            // #10: MethodHandles.lookup reference
+            output.writeByte(CONSTANT_METHOD);
+            output.writeShort(5);
+            output.writeShort(7);
+            // #11: Code attribute name
+            output.writeByte(CONSTANT_UTF8);
+            output.writeUTF(CODE);
+            // Access flags, this and super
+            output.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            output.writeShort(1);
+            output.writeShort(3);
+            // No interfaces and fields
+            output.writeShort(0);
+            output.writeShort(0);
+            // Lookup method
+            output.writeShort(1);
+            output.writeShort(ACC_PUBLIC | ACC_STATIC);
+            output.writeShort(8);
+            output.writeShort(9);
+            output.writeShort(1);
+            // Code attribute: max stack, max locals, code, no exceptions and attributes
+            output.writeShort(11);
+            output.writeInt(16);
+            output.writeShort(1);
+            output.writeShort(0);
+            output.writeInt(4);
+            output.writeByte(INVOKESTATIC);
+            output.writeShort(10);
+            output.writeByte(ARETURN);
+            output.writeShort(0);
+            output.writeShort(0);
+            // No class attributes
+            output.writeShort(0);
+        }
+        return ret.toByteArray();
+    }
+
+    private MethodHandles.Lookup createLookup(String pkg) {
+        // Hidden classes must be defined in the package of the lookup class
+        // with full privilege access, so each package gets its own anchor class
+        var name = pkg.isEmpty() ? ANCHOR : pkg + '.' + ANCHOR;
+        return Exceptions.silent(() -> {
+            var anchor = loader.define(name, createAnchor(name));
+            return (MethodHandles.Lookup) anchor.getMethod(LOOKUP).invoke(null);
+        });
+    }
+
+    @Override
+    public Class<?> define(String name, byte[] buffer) {
+        var index = name.lastIndexOf('.');
+        var pkg = index < 0 ? "" : name.substring(0, index);
+        var lookup = lookups.computeIfAbsent(pkg, this::createLookup);
+        return Exceptions.silent(() -> lookup.defineHiddenClass(buffer, true).lookupClass());
+    }
+
+    @Override
+    public Class<?> load(String name) {
+        return null;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return loader;
+    }
+}
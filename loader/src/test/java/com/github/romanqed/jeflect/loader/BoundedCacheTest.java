@@ -0,0 +1,102 @@
+package com.github.romanqed.jeflect.loader;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class BoundedCacheTest {
+
+    @Test
+    public void testEviction() {
+        var cache = new BoundedClassCache(10, 1);
+        cache.set("First", new byte[4]);
+        cache.set("Second", new byte[4]);
+        // Touch the first entry, so the second one becomes the least recently used
+        assertNotNull(cache.get("First"));
+        cache.set("Third", new byte[4]);
+        assertAll(
+                () -> assertNotNull(cache.get("First")),
+                () -> assertNull(cache.get("Second")),
+                () -> assertNotNull(cache.get("Third")),
+                () -> assertEquals(8, cache.getSize()),
+                () -> assertEquals(2, cache.getCount()),
+                () -> assertEquals(1, cache.getEvictionCount())
+        );
+    }
+
+    @Test
+    public void testStatistics() {
+        var cache = new BoundedClassCache(1024);
+        cache.set("First", new byte[16]);
+        cache.get("First");
+        cache.get("First");
+        cache.get("Second");
+        // Too large to be stored
+        cache.set("Large", new byte[2048]);
+        assertAll(
+                () -> assertEquals(2, cache.getHitCount()),
+                () -> assertEquals(1, cache.getMissCount()),
+                () -> assertEquals(0, cache.getEvictionCount()),
+                () -> assertNull(cache.get("Large")),
+                () -> assertEquals(16, cache.getSize()),
+                () -> assertEquals(1024, cache.getCapacity())
+        );
+    }
+
+    @Test
+    public void testLargeClass() {
+        // Small caches are not split into stripes too small for a single class
+        var small = new BoundedClassCache(32 * 1024);
+        small.set("Large", new byte[24 * 1024]);
+        var striped = new BoundedClassCache(1024 * 1024, 16);
+        striped.set("Large", new byte[60 * 1024]);
+        assertAll(
+                () -> assertNotNull(small.get("Large")),
+                () -> assertEquals(24 * 1024, small.getSize()),
+                () -> assertNotNull(striped.get("Large")),
+                () -> assertEquals(60 * 1024, striped.getSize())
+        );
+    }
+
+    @Test
+    public void testReplace() {
+        var cache = new BoundedClassCache(100, 1);
+        cache.set("First", new byte[40]);
+        cache.set("First", new byte[60]);
+        assertEquals(60, cache.getSize());
+        assertEquals(60, cache.get("First").length);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        var capacity = 4096;
+        var cache = new BoundedClassCache(capacity, 4);
+        var pool = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (var i = 0; i < 4; ++i) {
+                var thread = i;
+                futures.add(pool.submit(() -> {
+                    for (var j = 0; j < 10000; ++j) {
+                        var name = "Class" + (j % 500);
+                        if (cache.get(name) == null) {
+                            cache.set(name, new byte[16 + thread]);
+                        }
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(cache.getSize() <= capacity);
+        assertEquals(40000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.getEvictionCount() > 0);
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.romanqed.jeflect.loader;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ClassScannerTest {
+
+    private static void write(Path root, String entry) throws Exception {
+        var file = root.resolve(entry);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[0]);
+    }
+
+    @Test
+    public void testScan() throws Exception {
+        var directory = Files.createTempDirectory("jeflect");
+        write(directory, "com/example/First.class");
+        write(directory, "com/example/First$Nested.class");
+        write(directory, "com/example/sub/Second.class");
+        write(directory, "com/example/package-info.class");
+        write(directory, "com/example/readme.txt");
+        write(directory, "com/other/Third.class");
+        var jar = Files.createTempFile("jeflect", ".jar");
+        try (var output = new JarOutputStream(Files.newOutputStream(jar))) {
+            output.putNextEntry(new JarEntry("com/example/Packed.class"));
+            output.putNextEntry(new JarEntry("META-INF/versions/16/com/example/Packed.class"));
+            output.putNextEntry(new JarEntry("module-info.class"));
+        }
+        var scanner = new ClassScanner(List.of(directory, jar));
+        assertAll(
+                () -> assertEquals(List.of(
+                        "com.example.First",
+                        "com.example.First$Nested",
+                        "com.example.Packed",
+                        "com.example.sub.Second"
+                ), scanner.scan("com.example")),
+                () -> assertEquals(List.of("com.other.Third"), scanner.scan("com.other")),
+                () -> assertEquals(List.of(), scanner.scan("com.missing")),
+                () -> assertEquals(5, scanner.scan("").size()),
+                () -> assertEquals(List.of(
+                        "com.other.Third",
+                        "com.example.Unlisted",
+                        "com.example.Packed"
+                ), scanner.resolve(List.of("com.other.*", "com.example.Unlisted", "com.example.Packed")))
+        );
+    }
+}
@@ -5,14 +5,21 @@ import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public final class DefineLoaderTest {
     private static final DefineLoader LOADER = new DefineClassLoader();
     private static final ObjectFactory<?> FACTORY = new DefineObjectFactory<>(LOADER);
 
-    private static byte[] generateClass(String className, String methodName, String value) {
+    static byte[] generateClass(String className, String methodName, String value) {
         var writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
         writer.visit(
                 Opcodes.V11,
@@ -82,4 +89,196 @@ public final class DefineLoaderTest {
         assertEquals(methodName, method.getName());
         assertEquals(value, method.invoke(object));
     }
+
+    @Test
+    public void testCachedObject() {
+        var className = "TestClass3";
+        var provider = (Callable<byte[]>) () -> generateClass(className, "testMethod", "testValue");
+        var factory = new DefineObjectFactory<>(LOADER);
+        var first = factory.create(className, provider);
+        var second = factory.create(className, () -> {
+            throw new IllegalStateException("Class must not be regenerated");
+        });
+        assertSame(first, second);
+        // Objects with custom creator are not cached
+        assertNotSame(first, factory.create(className, provider, clazz -> clazz.getConstructor().newInstance()));
+    }
+
+    @Test
+    public void testLoadClass() {
+        var loader = new DefineClassLoader();
+        var className = "TestClass4";
+        assertNull(loader.load(className));
+        var clazz = loader.define(className, generateClass(className, "testMethod", "testValue"));
+        assertSame(clazz, loader.load(className));
+        // Classes visible through the parent chain are still loaded
+        assertSame(String.class, loader.load("java.lang.String"));
+        assertSame(DefineLoaderTest.class, loader.load(DefineLoaderTest.class.getName()));
+    }
+
+    @Test
+    public void testParentDefinedClass() {
+        var parent = new DefineClassLoader();
+        var child = new DefineClassLoader(new DefineClassLoader(parent));
+        var className = "TestClass5";
+        var clazz = parent.define(className, generateClass(className, "testMethod", "testValue"));
+        var factory = new DefineObjectFactory<>(child);
+        assertAll(
+                () -> assertSame(clazz, child.load(className)),
+                () -> assertSame(clazz, factory.create(className, () -> {
+                    throw new AssertionError("The class defined by the parent must be reused");
+                }).getClass()),
+                () -> assertNull(child.load("TestClass6"))
+        );
+    }
+
+    @Test
+    public void testCustomParent() {
+        var className = "TestClass7";
+        var bytes = generateClass(className, "testMethod", "testValue");
+        // A loader defining classes on demand, without class files
+        var parent = new ClassLoader() {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                if (!name.equals(className)) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+        var child = new DefineClassLoader(parent);
+        var clazz = child.load(className);
+        assertAll(
+                () -> assertNotNull(clazz),
+                () -> assertSame(parent, clazz.getClassLoader()),
+                () -> assertNull(child.load("TestClass8"))
+        );
+    }
+
+    @Test
+    public void testConcurrentCreate() throws Exception {
+        var className = "TestClass5";
+        var threads = 8;
+        var factory = new DefineObjectFactory<>(new DefineClassLoader());
+        var generated = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var pool = Executors.newFixedThreadPool(threads);
+        try {
+            var futures = new ArrayList<Future<Object>>();
+            for (var i = 0; i < threads; ++i) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return factory.create(className, () -> {
+                        generated.incrementAndGet();
+                        // Give other threads time to request the same class
+                        Thread.sleep(50);
+                        return generateClass(className, "testMethod", "testValue");
+                    }, clazz -> clazz.getConstructor().newInstance());
+                }));
+            }
+            start.countDown();
+            var clazz = futures.get(0).get().getClass();
+            for (var future : futures) {
+                assertSame(clazz, future.get().getClass());
+            }
+            assertEquals(1, generated.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedCreate() {
+        var className = "TestClass6";
+        var factory = new DefineObjectFactory<>(new DefineClassLoader());
+        assertThrows(IllegalStateException.class, () -> factory.create(className, () -> {
+            throw new IllegalStateException();
+        }));
+        // Failed generation is not remembered
+        assertNotNull(factory.create(className, () -> generateClass(className, "testMethod", "testValue")));
+    }
+
+    @Test
+    public void testBatchCreate() {
+        var factory = new DefineObjectFactory<>(new DefineClassLoader());
+        var generated = new AtomicInteger();
+        var existing = factory.create("BatchClass0", () -> generateClass("BatchClass0", "testMethod", "0"));
+        var providers = new HashMap<String, Callable<byte[]>>();
+        for (var i = 0; i < 16; ++i) {
+            var name = "BatchClass" + i;
+            var value = Integer.toString(i);
+            providers.put(name, () -> {
+                generated.incrementAndGet();
+                return generateClass(name, "testMethod", value);
+            });
+        }
+        var objects = factory.create(providers);
+        assertAll(
+                () -> assertEquals(16, objects.size()),
+                // Already created class is not generated again
+                () -> assertEquals(15, generated.get()),
+                () -> assertSame(existing, objects.get("BatchClass0")),
+                () -> assertEquals("7", objects.get("BatchClass7").getClass().getMethod("testMethod")
+                        .invoke(objects.get("BatchClass7"))),
+                () -> assertSame(objects.get("BatchClass7"), factory.create("BatchClass7", () -> null))
+        );
+    }
+
+    @Test
+    public void testFailedBatchCreate() {
+        var factory = new DefineObjectFactory<>(new DefineClassLoader());
+        var providers = new HashMap<String, Callable<byte[]>>();
+        providers.put("FailedBatch0", () -> generateClass("FailedBatch0", "testMethod", "0"));
+        providers.put("FailedBatch1", () -> {
+            throw new IllegalStateException();
+        });
+        assertThrows(IllegalStateException.class, () -> factory.create(providers));
+        // Failed batch is not remembered
+        providers.put("FailedBatch1", () -> generateClass("FailedBatch1", "testMethod", "1"));
+        assertEquals(2, factory.create(providers).size());
+    }
+
+    @Test
+    public void testParallelDefine() throws Exception {
+        var loader = new DefineClassLoader();
+        assertTrue(loader.isRegisteredAsParallelCapable());
+        var threads = 8;
+        var classes = 64;
+        var start = new CountDownLatch(1);
+        var pool = Executors.newFixedThreadPool(threads);
+        try {
+            var futures = new ArrayList<Future<Class<?>>>();
+            for (var i = 0; i < threads; ++i) {
+                var thread = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    Class<?> ret = null;
+                    for (var j = 0; j < classes; ++j) {
+                        // Own classes of each thread
+                        var name = "ParallelClass" + thread + "_" + j;
+                        loader.define(name, generateClass(name, "testMethod", name));
+                        // Class shared between all threads
+                        var shared = "SharedClass" + j;
+                        var clazz = loader.define(shared, generateClass(shared, "testMethod", shared));
+                        if (j == 0) {
+                            ret = clazz;
+                        }
+                    }
+                    return ret;
+                }));
+            }
+            start.countDown();
+            var shared = futures.get(0).get();
+            for (var future : futures) {
+                assertSame(shared, future.get());
+            }
+            for (var i = 0; i < threads; ++i) {
+                for (var j = 0; j < classes; ++j) {
+                    assertNotNull(loader.load("ParallelClass" + i + "_" + j));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package com.github.romanqed.jeflect.loader;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class DirectoryCacheTest {
+
+    private static Path createDirectory() throws Exception {
+        var ret = Files.createTempDirectory("jeflect");
+        ret.toFile().deleteOnExit();
+        return ret;
+    }
+
+    @Test
+    public void testPersistence() throws Exception {
+        var root = createDirectory();
+        var cache = new DirectoryClassCache(root);
+        var buffer = new byte[]{1, 2, 3};
+        assertNull(cache.get("com.example.First"));
+        cache.set("com.example.First", buffer);
+        assertAll(
+                () -> assertTrue(Files.exists(root.resolve("com/example/First.class"))),
+                () -> assertArrayEquals(buffer, cache.get("com.example.First")),
+                () -> assertArrayEquals(buffer, new DirectoryClassCache(root).get("com.example.First"))
+        );
+    }
+
+    @Test
+    public void testPregeneratedClass() throws Exception {
+        var root = createDirectory();
+        var name = "com.example.Pregenerated";
+        // Build step: generate the class once and store it into the directory
+        var build = new CachedClassLoader(new DefineClassLoader(), new DirectoryClassCache(root));
+        new DefineObjectFactory<>(build).create(name, () ->
+                DefineLoaderTest.generateClass("com/example/Pregenerated", "testMethod", "testValue"));
+        // Runtime: the directory is on the classpath, so the provider must not be called
+        try (var classpath = new URLClassLoader(new URL[]{root.toUri().toURL()})) {
+            var factory = new DefineObjectFactory<>(new DefineClassLoader(classpath));
+            Callable<byte[]> provider = () -> {
+                throw new AssertionError("Class must not be generated");
+            };
+            var object = factory.create(name, provider);
+            assertEquals(classpath, object.getClass().getClassLoader());
+            assertEquals("testValue", object.getClass().getMethod("testMethod").invoke(object));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.romanqed.jeflect.loader;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public final class HiddenLoaderTest {
+    private static final String PACKAGE = "com.github.romanqed.jeflect.loader.hidden.";
+    private static final int CLASSES = 2000;
+
+    private static boolean isSupported() {
+        return Runtime.version().feature() >= 15;
+    }
+
+    private static long getMetaspaceUsage() {
+        return ManagementFactory.getMemoryPoolMXBeans()
+                .stream()
+                .filter(e -> e.getName().equals("Metaspace"))
+                .mapToLong(e -> e.getUsage().getUsed())
+                .sum();
+    }
+
+    private static boolean isCollected(List<WeakReference<Class<?>>> references) throws InterruptedException {
+        for (var i = 0; i < 20; ++i) {
+            System.gc();
+            if (references.stream().allMatch(e -> e.get() == null)) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+
+    private static Object create(ObjectFactory<Object> factory, String name) {
+        return factory.create(
+                PACKAGE + name,
+                () -> DefineLoaderTest.generateClass((PACKAGE + name).replace('.', '/'), "testMethod", name)
+        );
+    }
+
+    @Test
+    public void testFactorySelection() {
+        assertTrue(ObjectFactory.of(new DefineClassLoader()) instanceof DefineObjectFactory);
+        assumeTrue(isSupported());
+        assertTrue(ObjectFactory.of(new HiddenDefineLoader()) instanceof WeakObjectFactory);
+    }
+
+    @Test
+    public void testHiddenClass() throws Exception {
+        assumeTrue(isSupported());
+        var factory = new WeakObjectFactory<>(new HiddenDefineLoader());
+        var object = create(factory, "TestClass");
+        var clazz = object.getClass();
+        assertTrue(clazz.getName().startsWith(PACKAGE + "TestClass"));
+        assertEquals("TestClass", clazz.getMethod("testMethod").invoke(object));
+        assertNull(factory.getLoader().load(PACKAGE + "TestClass"));
+        // Reachable object is reused
+        assertSame(object, create(factory, "TestClass"));
+    }
+
+    @Test
+    public void testMetaspaceUsage() throws Exception {
+        assumeTrue(isSupported());
+        var factory = new WeakObjectFactory<>(new HiddenDefineLoader());
+        var references = new ArrayList<WeakReference<Class<?>>>();
+        // Warm up anchor class and metaspace pools
+        create(factory, "WarmUp");
+        isCollected(references);
+        var before = getMetaspaceUsage();
+        for (var i = 0; i < CLASSES; ++i) {
+            references.add(new WeakReference<>(create(factory, "TestClass" + i).getClass()));
+        }
+        var peak = getMetaspaceUsage();
+        assertTrue(peak > before);
+        // No object is reachable, so all classes must be unloaded
+        assertTrue(isCollected(references));
+        var after = getMetaspaceUsage();
+        assertTrue(after < peak, "Metaspace usage must decrease after unloading");
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.romanqed.jeflect.loader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class MappedCacheTest {
+
+    private static Path createFile() throws IOException {
+        var ret = Files.createTempFile("jeflect", ".cache");
+        ret.toFile().deleteOnExit();
+        return ret;
+    }
+
+    @Test
+    public void testPersistence() throws Exception {
+        var path = createFile();
+        var first = new byte[]{1, 2, 3};
+        var second = new byte[]{4, 5};
+        try (var cache = new MappedClassCache(path)) {
+            assertNull(cache.get("First"));
+            cache.set("First", first);
+            cache.set("Second", new byte[0]);
+            assertArrayEquals(first, cache.get("First"));
+            // Latest record wins
+            cache.set("Second", second);
+            assertArrayEquals(second, cache.get("Second"));
+        }
+        try (var cache = new MappedClassCache(path)) {
+            assertEquals(2, cache.size());
+            assertArrayEquals(first, cache.get("First"));
+            assertArrayEquals(second, cache.get("Second"));
+        }
+    }
+
+    @Test
+    public void testIncompleteRecord() throws Exception {
+        var path = createFile();
+        try (var cache = new MappedClassCache(path)) {
+            cache.set("First", new byte[]{1, 2, 3});
+            cache.set("Second", new byte[]{4, 5, 6});
+        }
+        // Cut the last record
+        try (var channel = Files.newByteChannel(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+        try (var cache = new MappedClassCache(path)) {
+            assertEquals(1, cache.size());
+            assertNull(cache.get("Second"));
+            cache.set("Third", new byte[]{7});
+        }
+        try (var cache = new MappedClassCache(path)) {
+            assertArrayEquals(new byte[]{1, 2, 3}, cache.get("First"));
+            assertArrayEquals(new byte[]{7}, cache.get("Third"));
+        }
+    }
+
+    @Test
+    public void testCorruptedRecord() throws Exception {
+        var path = createFile();
+        try (var cache = new MappedClassCache(path)) {
+            cache.set("First", new byte[]{1, 2, 3});
+            cache.set("Second", new byte[]{4, 5, 6});
+            cache.set("Third", new byte[]{7, 8, 9});
+        }
+        // Damage the bytecode of the second record
+        var bytes = Files.readAllBytes(path);
+        var position = 0;
+        while (bytes[position] != 4 || bytes[position + 1] != 5 || bytes[position + 2] != 6) {
+            ++position;
+        }
+        bytes[position + 2] = 0;
+        Files.write(path, bytes);
+        try (var cache = new MappedClassCache(path)) {
+            assertEquals(1, cache.size());
+            assertArrayEquals(new byte[]{1, 2, 3}, cache.get("First"));
+            assertNull(cache.get("Second"));
+            assertNull(cache.get("Third"));
+        }
+    }
+
+    @Test
+    public void testSharedFile() throws Exception {
+        var path = createFile();
+        try (var first = new MappedClassCache(path);
+             var second = new MappedClassCache(path)) {
+            first.set("First", new byte[]{1});
+            second.set("Second", new byte[]{2});
+            first.set("Third", new byte[]{3});
+            // Records of the other instance are picked up on append and never overwritten
+            assertArrayEquals(new byte[]{2}, first.get("Second"));
+        }
+        try (var cache = new MappedClassCache(path)) {
+            assertEquals(3, cache.size());
+            assertArrayEquals(new byte[]{1}, cache.get("First"));
+            assertArrayEquals(new byte[]{2}, cache.get("Second"));
+            assertArrayEquals(new byte[]{3}, cache.get("Third"));
+        }
+    }
+
+    @Test
+    public void testOutdatedFile() throws Exception {
+        var path = createFile();
+        Files.write(path, new byte[]{0x4A, 0x46, 0x43, 0x43, 0, 0, 0, 1, 0, 0, 0, 1});
+        // Another process still maps the outdated file
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var old = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try (var cache = new MappedClassCache(path)) {
+                assertEquals(0, cache.size());
+                cache.set("First", new byte[]{1});
+            }
+            // The file is replaced, not truncated, so the old mapping stays readable
+            assertEquals(1, old.getInt(8));
+        }
+        try (var cache = new MappedClassCache(path)) {
+            assertArrayEquals(new byte[]{1}, cache.get("First"));
+        }
+    }
+
+    @Test
+    public void testInvalidFile() throws Exception {
+        var path = createFile();
+        Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        assertThrows(IOException.class, () -> new MappedClassCache(path));
+    }
+
+    @Test
+    public void testCachedLoader() throws Exception {
+        var path = createFile();
+        var name = "MappedClass";
+        try (var cache = new MappedClassCache(path)) {
+            var loader = new CachedClassLoader(new DefineClassLoader(), cache);
+            loader.define(name, DefineLoaderTest.generateClass(name, "testMethod", "testValue"));
+        }
+        try (var cache = new MappedClassCache(path)) {
+            var loader = new CachedClassLoader(new DefineClassLoader(), cache);
+            var clazz = loader.load(name);
+            assertNotNull(clazz);
+            var object = clazz.getConstructor().newInstance();
+            assertEquals("testValue", clazz.getMethod("testMethod").invoke(object));
+        }
+    }
+}